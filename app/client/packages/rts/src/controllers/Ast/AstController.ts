@@ -17,6 +17,14 @@ interface entityRefactorType {
   evalVersion?: number;
 }
 
+interface multipleEntityRefactorType {
+  scripts: string[];
+  oldName: string;
+  newName: string;
+  isJSObject: boolean;
+  evalVersion?: number;
+}
+
 interface MultipleScriptToIdentifiersType {
   scripts: string[];
   evalVersion?: number;
@@ -99,4 +107,42 @@ export default class AstController extends BaseController {
       );
     }
   }
+
+  async multipleEntityRefactorController(req: Request, res: Response) {
+    try {
+      // By default the application eval version is set to be 2
+      const {
+        evalVersion = 2,
+        isJSObject,
+        newName,
+        oldName,
+        scripts,
+      }: multipleEntityRefactorType = req.body;
+      // Every script is refactored on its own, so that one script that fails to parse does not fail the others.
+      const data = await Promise.all(
+        scripts.map(async (script) => {
+          try {
+            const result = await AstService.entityRefactor(
+              script,
+              oldName,
+              newName,
+              isJSObject,
+              evalVersion,
+            );
+            return { success: result.isSuccess, ...result.body };
+          } catch (err) {
+            return { success: false, error: err.message };
+          }
+        }),
+      );
+      return super.sendResponse(res, data);
+    } catch (err) {
+      return super.sendError(
+        res,
+        super.serverErrorMessaage,
+        [err.message],
+        StatusCodes.INTERNAL_SERVER_ERROR,
+      );
+    }
+  }
 }
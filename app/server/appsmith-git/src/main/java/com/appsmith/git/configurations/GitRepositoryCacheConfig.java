@@ -0,0 +1,45 @@
+package com.appsmith.git.configurations;
+
+import org.eclipse.jgit.lib.RepositoryCacheConfig;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tunes JGit's process wide caches: the {@link org.eclipse.jgit.lib.RepositoryCache}, which keeps the repositories
+ * opened by the git executor, and the window cache, which holds the pack files and the delta bases read from them.
+ */
+@Configuration
+public class GitRepositoryCacheConfig implements InitializingBean {
+
+    private static final long MB = 1024 * 1024;
+
+    @Value("${appsmith.git.repository-cache.expire-after-seconds:600}")
+    private long repositoryExpireAfterSeconds;
+
+    @Value("${appsmith.git.window-cache.packed-git-limit-mb:64}")
+    private long packedGitLimitMb;
+
+    @Value("${appsmith.git.window-cache.packed-git-open-files:256}")
+    private int packedGitOpenFiles;
+
+    @Value("${appsmith.git.window-cache.delta-base-cache-limit-mb:16}")
+    private int deltaBaseCacheLimitMb;
+
+    @Override
+    public void afterPropertiesSet() {
+        // A repository that no one has used for this long is closed and dropped from the cache
+        RepositoryCacheConfig repositoryCacheConfig = new RepositoryCacheConfig();
+        repositoryCacheConfig.setExpireAfter(TimeUnit.SECONDS.toMillis(repositoryExpireAfterSeconds));
+        repositoryCacheConfig.install();
+
+        WindowCacheConfig windowCacheConfig = new WindowCacheConfig();
+        windowCacheConfig.setPackedGitLimit(packedGitLimitMb * MB);
+        windowCacheConfig.setPackedGitOpenFiles(packedGitOpenFiles);
+        windowCacheConfig.setDeltaBaseCacheLimit((int) (deltaBaseCacheLimitMb * MB));
+        windowCacheConfig.install();
+    }
+}
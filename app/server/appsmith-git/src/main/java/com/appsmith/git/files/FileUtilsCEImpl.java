@@ -14,6 +14,7 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.RepositoryHelper;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +27,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,6 +42,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -75,6 +77,8 @@ public class FileUtilsCEImpl implements FileInterface {
     private final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
 
+    private final RepositoryHelper repositoryHelper = new RepositoryHelper();
+
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
     private static final String VIEW_MODE_URL_TEMPLATE = "{{viewModeUrl}}";
@@ -84,6 +88,11 @@ public class FileUtilsCEImpl implements FileInterface {
 
     private final Scheduler scheduler = Schedulers.boundedElastic();
 
+    private static final int FILE_WRITE_CONCURRENCY = 8;
+
+    private final Scheduler fileWriteScheduler = Schedulers.newBoundedElastic(
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "git-file-write");
+
     private static final String CANVAS_WIDGET = "(Canvas)[0-9]*.";
 
     public FileUtilsCEImpl(
@@ -243,46 +252,22 @@ public class FileUtilsCEImpl implements FileInterface {
                 applicationGitReference.getPages().entrySet();
 
         Set<String> validPages = new HashSet<>();
+        List<Runnable> pageWrites = new ArrayList<>();
         for (Map.Entry<String, Object> pageResource : pageEntries) {
-            Map<String, String> validWidgetToParentMap = new HashMap<>();
             final String pageName = pageResource.getKey();
             Path pageSpecificDirectory = pageDirectory.resolve(pageName);
             boolean isResourceUpdated =
                     modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
             if (Boolean.TRUE.equals(isResourceUpdated)) {
-                // Save page metadata
-                saveResource(
+                pageWrites.add(() -> savePage(
                         pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
-                Map<String, JSONObject> result = DSLTransformerHelper.flatten(
-                        new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
-                result.forEach((key, jsonObject) -> {
-                    // get path with splitting the name via key
-                    String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
-                    String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
-                            .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
-                    // Replace the canvas Widget as a child and add it to the same level as parent
-                    childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
-                    if (!DSLTransformerHelper.hasChildren(jsonObject)
-                            && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
-                        // Save the widget as a directory or Save the widget as a file
-                        childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
-                    }
-                    Path path = Paths.get(
-                            String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
-                    validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
-                });
-                // Remove deleted widgets from the file system
-                deleteWidgets(
-                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
-
-                // Remove the canvas.json from the file system since the value is stored in the page.json
-                fileOperations.deleteFile(
-                        pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+                        applicationGitReference.getPageDsl().get(pageName),
+                        pageName,
+                        pageSpecificDirectory));
             }
             validPages.add(pageName);
         }
+        runInParallel(pageWrites);
 
         fileOperations.scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
 
@@ -319,7 +304,8 @@ public class FileUtilsCEImpl implements FileInterface {
             validActionCollectionsMap.put(validPage, new HashSet<>());
         });
 
-        // Save actions
+        // Save actions and JSObjects, and then remove the ones deleted from each page
+        List<Runnable> actionAndCollectionWrites = new ArrayList<>();
         for (Map.Entry<String, Object> resource :
                 applicationGitReference.getActions().entrySet()) {
             // queryName_pageName => nomenclature for the keys
@@ -340,28 +326,23 @@ public class FileUtilsCEImpl implements FileInterface {
                 }
                 validActionsMap.get(pageName).add(queryName);
                 if (Boolean.TRUE.equals(isResourceUpdated)) {
-                    saveActions(
-                            resource.getValue(),
-                            applicationGitReference.getActionBody().containsKey(resource.getKey())
-                                    ? applicationGitReference.getActionBody().get(resource.getKey())
-                                    : null,
-                            queryName,
-                            actionSpecificDirectory.resolve(queryName));
-                    // Delete the resource from the old file structure v2
-                    fileOperations.deleteFile(pageSpecificDirectory
-                            .resolve(ACTION_DIRECTORY)
-                            .resolve(queryName + CommonConstants.JSON_EXTENSION));
+                    actionAndCollectionWrites.add(() -> {
+                        saveActions(
+                                resource.getValue(),
+                                applicationGitReference.getActionBody().containsKey(resource.getKey())
+                                        ? applicationGitReference.getActionBody().get(resource.getKey())
+                                        : null,
+                                queryName,
+                                actionSpecificDirectory.resolve(queryName));
+                        // Delete the resource from the old file structure v2
+                        fileOperations.deleteFile(pageSpecificDirectory
+                                .resolve(ACTION_DIRECTORY)
+                                .resolve(queryName + CommonConstants.JSON_EXTENSION));
+                    });
                 }
             }
         }
 
-        validActionsMap.forEach((pageName, validActionNames) -> {
-            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-            fileOperations.scanAndDeleteDirectoryForDeletedResources(
-                    validActionNames, pageSpecificDirectory.resolve(ACTION_DIRECTORY));
-        });
-
-        // Save JSObjects
         for (Map.Entry<String, Object> resource :
                 applicationGitReference.getActionCollections().entrySet()) {
             // JSObjectName_pageName => nomenclature for the keys
@@ -380,24 +361,31 @@ public class FileUtilsCEImpl implements FileInterface {
                 boolean isResourceUpdated = modifiedResources != null
                         && modifiedResources.isResourceUpdated(ACTION_COLLECTION_LIST, resource.getKey());
                 if (Boolean.TRUE.equals(isResourceUpdated)) {
-                    saveActionCollection(
-                            resource.getValue(),
-                            applicationGitReference.getActionCollectionBody().get(resource.getKey()),
-                            actionCollectionName,
-                            actionCollectionSpecificDirectory.resolve(actionCollectionName));
-                    // Delete the resource from the old file structure v2
-                    fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
-                            actionCollectionName + CommonConstants.JSON_EXTENSION));
+                    actionAndCollectionWrites.add(() -> {
+                        saveActionCollection(
+                                resource.getValue(),
+                                applicationGitReference.getActionCollectionBody().get(resource.getKey()),
+                                actionCollectionName,
+                                actionCollectionSpecificDirectory.resolve(actionCollectionName));
+                        // Delete the resource from the old file structure v2
+                        fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
+                                actionCollectionName + CommonConstants.JSON_EXTENSION));
+                    });
                 }
             }
         }
+        runInParallel(actionAndCollectionWrites);
 
         // Verify if the old files are deleted
-        validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> {
-            Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-            fileOperations.scanAndDeleteDirectoryForDeletedResources(
-                    validActionCollectionNames, pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY));
-        });
+        List<Runnable> deletedResourceScans = new ArrayList<>();
+        validActionsMap.forEach((pageName, validActionNames) -> deletedResourceScans.add(
+                () -> fileOperations.scanAndDeleteDirectoryForDeletedResources(
+                        validActionNames, pageDirectory.resolve(pageName).resolve(ACTION_DIRECTORY))));
+        validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> deletedResourceScans.add(
+                () -> fileOperations.scanAndDeleteDirectoryForDeletedResources(
+                        validActionCollectionNames,
+                        pageDirectory.resolve(pageName).resolve(ACTION_COLLECTION_DIRECTORY))));
+        runInParallel(deletedResourceScans);
 
         // Save datasources ref
         for (Map.Entry<String, Object> resource :
@@ -416,6 +404,56 @@ public class FileUtilsCEImpl implements FileInterface {
         return validPages;
     }
 
+    /**
+     * Saves the metadata of a page along with its widgets, one file per widget, and removes the widgets that are no
+     * longer part of the page.
+     */
+    private void savePage(Object pageResource, String pageDsl, String pageName, Path pageSpecificDirectory) {
+        Map<String, String> validWidgetToParentMap = new HashMap<>();
+        // Save page metadata
+        saveResource(pageResource, pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
+        Map<String, JSONObject> result = DSLTransformerHelper.flatten(new JSONObject(pageDsl));
+        result.forEach((key, jsonObject) -> {
+            // get path with splitting the name via key
+            String widgetName = key.substring(key.lastIndexOf(CommonConstants.DELIMITER_POINT) + 1);
+            String childPath = key.replace(CommonConstants.MAIN_CONTAINER, CommonConstants.EMPTY_STRING)
+                    .replace(CommonConstants.DELIMITER_POINT, CommonConstants.DELIMITER_PATH);
+            // Replace the canvas Widget as a child and add it to the same level as parent
+            childPath = childPath.replaceAll(CANVAS_WIDGET, CommonConstants.EMPTY_STRING);
+            if (!DSLTransformerHelper.hasChildren(jsonObject) && !DSLTransformerHelper.isTabsWidget(jsonObject)) {
+                // Save the widget as a directory or Save the widget as a file
+                childPath = childPath.replace(widgetName, CommonConstants.EMPTY_STRING);
+            }
+            Path path = Paths.get(String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
+            validWidgetToParentMap.put(widgetName, path.toFile().toString());
+            fileOperations.saveWidgets(jsonObject, widgetName, path);
+        });
+        // Remove deleted widgets from the file system
+        deleteWidgets(pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
+
+        // Remove the canvas.json from the file system since the value is stored in the page.json
+        fileOperations.deleteFile(
+                pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
+    }
+
+    /**
+     * Runs the given file operations concurrently and waits for all of them to complete. The operations must not
+     * touch the same files. They run on a scheduler of their own, so that waiting for them never holds up the
+     * threads they need to run on.
+     */
+    private void runInParallel(List<Runnable> fileWrites) {
+        if (fileWrites.isEmpty()) {
+            return;
+        }
+
+        Flux.fromIterable(fileWrites)
+                .flatMap(
+                        fileWrite -> Mono.fromRunnable(fileWrite).subscribeOn(fileWriteScheduler),
+                        FILE_WRITE_CONCURRENCY)
+                .then()
+                .block();
+    }
+
     /**
      * This method will be used to store the DB resource to JSON file
      *
@@ -455,7 +493,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 String resourceType = ACTION_COLLECTION_BODY;
                 span.tag(RESOURCE_TYPE, resourceType);
                 observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
+                fileOperations.writeStringToFile(body, bodyPath);
             }
 
             // Write metadata for the jsObject
@@ -491,7 +529,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 String resourceType = NEW_ACTION_BODY;
                 span.tag(RESOURCE_TYPE, resourceType);
                 observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
+                fileOperations.writeStringToFile(body, bodyPath);
             }
 
             // Write metadata for the actions
@@ -505,12 +543,6 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
-    private void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
-    }
-
     /**
      * This will reconstruct the application from the repo
      *
@@ -580,6 +612,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        repositoryHelper.evictCachedRepositories(file);
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
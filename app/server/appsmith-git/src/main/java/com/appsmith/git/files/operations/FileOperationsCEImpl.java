@@ -28,7 +28,6 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -146,9 +145,7 @@ public class FileOperationsCEImpl implements FileOperationsCE {
 
     @Override
     public void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+        writeIfChanged(sourceEntity.getBytes(StandardCharsets.UTF_8), path);
     }
 
     @Override
@@ -161,14 +158,32 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            gson.toJson(sourceEntity, fileWriter);
+        try {
+            writeIfChanged(gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8), path);
             return true;
         } finally {
             observationHelper.endSpan(span, true);
         }
     }
 
+    /**
+     * Writes the content to the file, unless the file already holds exactly the same content. Unchanged files are
+     * left untouched, so their modification time is kept and git doesn't have to re-hash them to find out that
+     * nothing changed.
+     *
+     * @return whether the file was written
+     */
+    protected boolean writeIfChanged(byte[] content, Path path) throws IOException {
+        if (Files.isRegularFile(path)
+                && Files.size(path) == content.length
+                && Arrays.equals(Files.readAllBytes(path), content)) {
+            return false;
+        }
+
+        Files.write(path, content);
+        return true;
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
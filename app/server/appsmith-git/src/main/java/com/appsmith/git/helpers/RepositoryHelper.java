@@ -2,10 +2,12 @@ package com.appsmith.git.helpers;
 
 import lombok.RequiredArgsConstructor;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.RepositoryCache;
 import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.springframework.stereotype.Component;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 
@@ -31,4 +33,20 @@ public class RepositoryHelper {
         config.setString("branch", branchName, "merge", "refs/heads/" + branchName);
         config.save();
     }
+
+    /**
+     * Drops the repositories in the given directory, or in any directory below it, from JGit's RepositoryCache. This
+     * must be done whenever such a repository is deleted or replaced on disk, so that it is opened afresh the next
+     * time. Handles to a dropped repository that are still in use keep working, and it is closed when the last of
+     * them is released.
+     */
+    public void evictCachedRepositories(File directory) {
+        final Path directoryPath = directory.toPath().toAbsolutePath().normalize();
+        for (RepositoryCache.Key key : RepositoryCache.getRegisteredKeys()) {
+            if (key instanceof RepositoryCache.FileKey fileKey
+                    && fileKey.getFile().toPath().toAbsolutePath().normalize().startsWith(directoryPath)) {
+                RepositoryCache.unregister(key);
+            }
+        }
+    }
 }
@@ -36,10 +36,12 @@ import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
 import org.eclipse.jgit.lib.PersonIdent;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RepositoryCache;
 import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.merge.MergeStrategy;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.util.FS;
 import org.eclipse.jgit.util.StringUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
@@ -92,6 +94,25 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     private static final String SUCCESS_MERGE_STATUS = "This branch has no conflicts with the base branch.";
 
+    /**
+     * Opens the repository at the given path through JGit's {@link RepositoryCache}, so that the repositories in use
+     * are opened once and shared, instead of re-reading their config, refs and pack indexes on every operation. The
+     * returned handle must be released with {@link #closeRepository(Git)}.
+     *
+     * @param repoPath path to the working tree, or the git directory, of the repository
+     */
+    protected Git openRepository(Path repoPath) throws IOException {
+        return Git.wrap(RepositoryCache.open(RepositoryCache.FileKey.lenient(repoPath.toFile(), FS.DETECTED), true));
+    }
+
+    /**
+     * Releases a handle obtained from {@link #openRepository(Path)}. The repository itself stays cached until it has
+     * been idle for the configured expiry.
+     */
+    protected void closeRepository(Git git) {
+        git.getRepository().close();
+    }
+
     /**
      * This method will handle the git-commit functionality. Under the hood it checks if the repo has already been
      * initialised and will be initialised if git repo is not present
@@ -118,7 +139,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> openRepository(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug("Trying to commit to local repo path, {}", path);
 
@@ -148,7 +169,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_COMMIT)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -175,7 +196,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
         Path repoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> openRepository(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": get commit history for  "
                                             + repoSuffix);
@@ -200,7 +221,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     return commitLogs;
                                 })
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -228,7 +249,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 .getIsAtomicPushAllowed()
                 .flatMap(isAtomicPushAllowed -> {
                     return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+                            () -> openRepository(baseRepoPath),
                             git -> Mono.fromCallable(() -> {
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
                                                 + remoteUrl);
@@ -265,7 +286,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                     .name(GitSpan.FS_PUSH)
                                     .tap(Micrometer.observation(observationRegistry)),
-                            Git::close);
+                            this::closeRepository);
                 })
                 .subscribeOn(scheduler);
     }
@@ -291,6 +312,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    repositoryHelper.evictCachedRepositories(file);
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -320,7 +342,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -339,7 +361,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_CREATE_BRANCH)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -350,7 +372,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -369,7 +391,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_DELETE_BRANCH)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -379,7 +401,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Switching to the branch "
                                             + branchName);
@@ -405,7 +427,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .tag(CHECKOUT_REMOTE, FALSE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -419,7 +441,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
                                             + remoteUrl + " for the branch " + branchName);
@@ -477,7 +499,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_PULL)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -486,7 +508,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> openRepository(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get branches for the application "
                                             + repoSuffix);
@@ -515,7 +537,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     return branchList;
                                 })
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -523,7 +545,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> openRepository(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback transportConfigCallback =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -538,7 +560,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                             .replace("refs/heads/", "");
                                 })
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -554,7 +576,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> openRepository(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath
                                             + ", branch " + branchName);
@@ -615,7 +637,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .flatMap(response -> response)
                                 .name(GitSpan.FS_STATUS)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -794,7 +816,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                                             repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
@@ -833,7 +855,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_MERGE)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -849,7 +871,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> openRepository(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -880,7 +902,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_FETCH_REMOTE)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -889,7 +911,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(
                                             Thread.currentThread().getName()
@@ -966,7 +988,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     }
                                 })
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -974,7 +996,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/"
                                             + branchName + " for the repo " + repoSuffix);
@@ -998,7 +1020,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .tag(CHECKOUT_REMOTE, TRUE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 
@@ -1039,17 +1061,17 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
         return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                () -> openRepository(createRepoPath(repoSuffix)),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                         .flatMap(checkedOut -> resetToLastCommit(git).thenReturn(true)),
-                Git::close);
+                this::closeRepository);
     }
 
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     git.reset()
                                             .setMode(ResetCommand.ResetType.HARD)
@@ -1065,13 +1087,13 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .tag(HARD_RESET, TRUE.toString())
                                 .name(GitSpan.FS_RESET)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close))
+                        this::closeRepository))
                 .subscribeOn(scheduler);
     }
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName).flatMap(isCheckedOut -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> openRepository(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     RebaseResult result = git.rebase()
                                             .setUpstream("origin/" + branchName)
@@ -1098,19 +1120,19 @@ public class GitExecutorCEImpl implements GitExecutor {
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_REBASE)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler));
     }
 
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> openRepository(repoPath),
                         git -> Mono.fromCallable(() -> BranchTrackingStatus.of(git.getRepository(), branchName))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
                                 .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                        this::closeRepository)
                 .subscribeOn(scheduler);
     }
 }
@@ -20,7 +20,11 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -34,6 +38,8 @@ public class FileUtilsImplTest {
 
     private GitExecutorImpl gitExecutor;
 
+    private FileOperations fileOperations;
+
     private static final String localTestDirectory = "localTestDirectory";
     private static final Path localTestDirectoryPath = Path.of(localTestDirectory);
 
@@ -42,7 +48,7 @@ public class FileUtilsImplTest {
         gitExecutor = Mockito.mock(GitExecutorImpl.class);
         GitServiceConfig gitServiceConfig = new GitServiceConfig();
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
-        FileOperations fileOperations =
+        fileOperations =
                 new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
         fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
     }
@@ -80,6 +86,22 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    @Test
+    public void writeToFile_WhenContentIsUnchanged_FileIsNotRewritten() throws IOException {
+        Path resourcePath = localTestDirectoryPath.resolve("resource.json");
+        Files.createDirectories(localTestDirectoryPath);
+        fileOperations.writeToFile(Map.of("key", "value"), resourcePath);
+        Files.setLastModifiedTime(resourcePath, FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+        FileTime initialModifiedTime = Files.getLastModifiedTime(resourcePath);
+
+        fileOperations.writeToFile(Map.of("key", "value"), resourcePath);
+        Assertions.assertEquals(initialModifiedTime, Files.getLastModifiedTime(resourcePath));
+
+        fileOperations.writeToFile(Map.of("key", "changedValue"), resourcePath);
+        Assertions.assertNotEquals(initialModifiedTime, Files.getLastModifiedTime(resourcePath));
+        Assertions.assertTrue(Files.readString(resourcePath).contains("changedValue"));
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
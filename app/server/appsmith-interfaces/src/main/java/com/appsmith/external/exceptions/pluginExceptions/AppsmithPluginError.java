@@ -44,6 +44,15 @@ public enum AppsmithPluginError implements BasePluginError {
             ErrorType.CONNECTIVITY_ERROR,
             "{2}",
             "{3}"),
+    PLUGIN_EXECUTION_QUEUE_FULL(
+            503,
+            AppsmithPluginErrorCode.PLUGIN_EXECUTION_QUEUE_FULL.getCode(),
+            "{0} could not be executed because too many queries on this datasource are already running or waiting to run on datasources of the same type. Please try again in a while.",
+            AppsmithErrorAction.DEFAULT,
+            "Too many queries waiting to be executed",
+            ErrorType.CONNECTIVITY_ERROR,
+            "{1}",
+            "{2}"),
     PLUGIN_GET_STRUCTURE_TIMEOUT_ERROR(
             504,
             AppsmithPluginErrorCode.PLUGIN_GET_STRUCTURE_TIMEOUT_ERROR.getCode(),
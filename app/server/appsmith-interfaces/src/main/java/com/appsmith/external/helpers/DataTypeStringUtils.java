@@ -9,8 +9,9 @@ import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -306,22 +307,20 @@ public class DataTypeStringUtils {
         if (data instanceof List) {
             // Check if the data is a list of json objects
             return ((List) data).stream().allMatch(item -> item instanceof Map);
-        } else if (data instanceof JsonNode) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.convertValue(data, new TypeReference<List<Map<String, Object>>>() {});
+        } else if (data instanceof JsonNode jsonNode) {
+            // Check if the data is an array of json objects. A json null reads as a null list, which is accepted too.
+            if (jsonNode.isNull() || jsonNode.isMissingNode()) {
                 return true;
-            } catch (IllegalArgumentException e) {
+            } else if (!jsonNode.isArray()) {
                 return false;
             }
-        } else if (data instanceof String) {
-            // Check if the data is an array of json objects
-            try {
-                objectMapper.readValue((String) data, new TypeReference<List<Map<String, Object>>>() {});
-                return true;
-            } catch (IOException e) {
-                return false;
+
+            for (JsonNode item : jsonNode) {
+                if (!item.isObject() && !item.isNull()) {
+                    return false;
+                }
             }
+            return true;
         }
 
         return false;
@@ -332,20 +331,43 @@ public class DataTypeStringUtils {
          * - Any non string non primitive object is converted into a json when serializing.
          * - https://stackoverflow.com/questions/25039080/java-how-to-determine-if-type-is-any-of-primitive-wrapper-string-or-something/25039320
          */
-        if (!isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String)) {
-            return true;
-        } else if (data instanceof String) {
-            try {
-                objectMapper.readTree((String) data);
-                return true;
-            } catch (IOException e) {
-                return false;
+        return !isPrimitiveOrWrapper(data.getClass()) && !(data instanceof String);
+    }
+
+    /**
+     * Classifies a string body in one pass over its tokens, without building a tree or any other copy of it. The
+     * body is a json if it parses, and a table if it is an array of json objects.
+     */
+    private static DisplayShape getDisplayShapeOfString(String data) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(data)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                // Empty content reads as a missing json node, but not as a list.
+                return new DisplayShape(false, true);
             }
-        }
 
-        return false;
+            boolean isTable = token == JsonToken.VALUE_NULL;
+            if (token == JsonToken.START_ARRAY) {
+                isTable = true;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token != JsonToken.START_OBJECT && token != JsonToken.VALUE_NULL) {
+                        isTable = false;
+                    }
+                    // Skipping still reads every token, so malformed content inside an item fails the parse.
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+
+            return new DisplayShape(isTable, true);
+        } catch (IOException e) {
+            return new DisplayShape(false, false);
+        }
     }
 
+    private record DisplayShape(boolean isTable, boolean isJson) {}
+
     public static List<ParsedDataType> getDisplayDataTypes(Object data) {
 
         if (data == null) {
@@ -354,13 +376,17 @@ public class DataTypeStringUtils {
 
         List<ParsedDataType> dataTypes = new ArrayList<>();
 
+        final DisplayShape displayShape = data instanceof String stringData
+                ? getDisplayShapeOfString(stringData)
+                : new DisplayShape(isDisplayTypeTable(data), isDisplayTypeJson(data));
+
         // Check if the data is a valid table.
-        if (isDisplayTypeTable(data)) {
+        if (displayShape.isTable()) {
             dataTypes.add(new ParsedDataType(DisplayDataType.TABLE));
         }
 
         // Check if the data is a valid json.
-        if (isDisplayTypeJson(data)) {
+        if (displayShape.isJson()) {
             dataTypes.add(new ParsedDataType(DisplayDataType.JSON));
         }
 
@@ -0,0 +1,207 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * Converts the rows of a JDBC {@link ResultSet} into the JSON array that is sent back as the action execution body.
+ *
+ * Column names and the reader for every column are resolved once per result set from its metadata, instead of once
+ * per cell. Values are written straight into a Jackson tree, so the rows are not first collected into maps and then
+ * converted by {@link ObjectMapper#valueToTree(Object)}. While writing, the size of the JSON that the response will
+ * serialize to is added up cell by cell, which lets a plugin stop reading a result set as soon as it goes over the
+ * maximum response size, without having to serialize everything read so far to measure it.
+ *
+ * Instances hold no per-result-set state and can be shared between executions.
+ */
+@Slf4j
+public class JdbcRowsMaterializer {
+
+    /**
+     * Reads the value of one column from the current row of a result set. Returning `null` writes a JSON `null`.
+     */
+    @FunctionalInterface
+    public interface ColumnReader {
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException, IOException;
+    }
+
+    /**
+     * Picks the {@link ColumnReader} for a column, given the database specific type name reported by
+     * {@link ResultSetMetaData#getColumnTypeName(int)}.
+     */
+    @FunctionalInterface
+    public interface ColumnReaderResolver {
+        ColumnReader resolve(String columnTypeName);
+    }
+
+    public static final ColumnReader OBJECT_READER = ResultSet::getObject;
+
+    private final ObjectMapper objectMapper;
+
+    private final ColumnReaderResolver columnReaderResolver;
+
+    private final long maxResponseSizeInBytes;
+
+    private final Supplier<? extends AppsmithPluginException> responseSizeExceededError;
+
+    public JdbcRowsMaterializer(ObjectMapper objectMapper, ColumnReaderResolver columnReaderResolver) {
+        this(objectMapper, columnReaderResolver, 0, null);
+    }
+
+    /**
+     * @param maxResponseSizeInBytes    maximum size of the serialized rows; zero or less means no limit
+     * @param responseSizeExceededError error thrown once the rows grow beyond `maxResponseSizeInBytes`
+     */
+    public JdbcRowsMaterializer(
+            ObjectMapper objectMapper,
+            ColumnReaderResolver columnReaderResolver,
+            long maxResponseSizeInBytes,
+            Supplier<? extends AppsmithPluginException> responseSizeExceededError) {
+        this.objectMapper = objectMapper;
+        this.columnReaderResolver = columnReaderResolver;
+        this.maxResponseSizeInBytes = maxResponseSizeInBytes;
+        this.responseSizeExceededError = responseSizeExceededError;
+    }
+
+    public ArrayNode materialize(ResultSet resultSet) throws SQLException, IOException {
+        final ArrayNode rows = objectMapper.createArrayNode();
+        materializeInto(resultSet, rows);
+        return rows;
+    }
+
+    /**
+     * Appends every remaining row of the result set to `rows`, as an object keyed by column name in column order.
+     *
+     * @return size in bytes of the JSON that `rows` serializes to
+     */
+    public long materializeInto(ResultSet resultSet, ArrayNode rows) throws SQLException, IOException {
+        final ResultSetMetaData metaData = resultSet.getMetaData();
+        final int colCount = metaData.getColumnCount();
+
+        final String[] columnNames = new String[colCount];
+        final ColumnReader[] columnReaders = new ColumnReader[colCount];
+        // Size of `"name":` for every column, plus the braces and commas of one row.
+        long rowOverhead = 2 + Math.max(colCount - 1, 0);
+        for (int i = 0; i < colCount; i++) {
+            columnNames[i] = metaData.getColumnName(i + 1);
+            columnReaders[i] = columnReaderResolver.resolve(metaData.getColumnTypeName(i + 1));
+            rowOverhead += jsonStringSize(columnNames[i]) + 1;
+        }
+
+        long responseSize = jsonSize(rows);
+        while (resultSet.next()) {
+            final ObjectNode row = objectMapper.createObjectNode();
+            long rowSize = rowOverhead;
+
+            for (int i = 0; i < colCount; i++) {
+                final JsonNode value = toJsonNode(columnReaders[i].read(resultSet, i + 1));
+                row.set(columnNames[i], value);
+                rowSize += jsonSize(value);
+            }
+
+            responseSize += rows.isEmpty() ? rowSize : rowSize + 1;
+            rows.add(row);
+
+            if (maxResponseSizeInBytes > 0 && responseSize > maxResponseSizeInBytes) {
+                log.debug(
+                        "Result size greater than maximum supported size of {} bytes. Current size : {}",
+                        maxResponseSizeInBytes,
+                        responseSize);
+                throw responseSizeExceededError.get();
+            }
+        }
+
+        return responseSize;
+    }
+
+    private JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return NullNode.getInstance();
+        } else if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        } else if (value instanceof String) {
+            return TextNode.valueOf((String) value);
+        } else if (value instanceof Integer) {
+            return IntNode.valueOf((Integer) value);
+        } else if (value instanceof Long) {
+            return LongNode.valueOf((Long) value);
+        } else if (value instanceof Double) {
+            return DoubleNode.valueOf((Double) value);
+        } else if (value instanceof Boolean) {
+            return BooleanNode.valueOf((Boolean) value);
+        }
+
+        // Dates, decimals, arrays, byte arrays and driver specific types keep the conversion they always had.
+        return objectMapper.valueToTree(value);
+    }
+
+    private long jsonSize(JsonNode node) throws IOException {
+        if (node.isTextual()) {
+            return jsonStringSize(node.textValue());
+        } else if (node.isNumber() || node.isBoolean() || node.isNull()) {
+            return node.asText().length();
+        }
+
+        final CountingOutputStream outputStream = new CountingOutputStream();
+        objectMapper.writeValue(outputStream, node);
+        return outputStream.count;
+    }
+
+    /**
+     * Size of the string once written as a quoted, escaped, UTF-8 encoded JSON string.
+     */
+    static long jsonStringSize(String value) {
+        long size = 2;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                size += 2;
+            } else if (c < 0x20) {
+                // Control characters are written as `\n`-like short escapes or as `\u00XX`.
+                size += (c == '\n' || c == '\r' || c == '\t' || c == '\b' || c == '\f') ? 2 : 6;
+            } else if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.appsmith.external.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lets a JDBC statement that is running on a worker thread be cancelled from the thread that cancels the execution.
+ *
+ * Cancelling the reactive pipeline of an execution, for example when the server times it out or the client goes
+ * away, does not stop a blocking {@link Statement#execute} call. Without that, the statement keeps running on the
+ * database, and keeps holding its pooled connection, until the database is done with it. Plugins register the
+ * statement they are about to execute, and hook {@link #cancel()} to the cancellation of the pipeline, e.g. with
+ * {@code doOnCancel}. The query timeout of the action is also set on the statement, so that the database stops the
+ * query by itself even if the cancellation never reaches it.
+ *
+ * One instance is meant for a single execution, and is safe to cancel from any thread.
+ */
+@Slf4j
+public class JdbcStatementCanceller {
+
+    private static final int MILLIS_IN_A_SECOND = 1000;
+
+    private final AtomicReference<Statement> statement = new AtomicReference<>();
+
+    private volatile boolean isCancelled = false;
+
+    /**
+     * Registers the statement that is about to be executed, and sets the query timeout on it.
+     *
+     * @param statement       the statement, before it is executed
+     * @param timeoutInMillis the timeout of the action, or `null` to leave the timeout of the statement as it is
+     * @return the given statement
+     * @throws CancellationException if the execution was cancelled before the statement was registered
+     */
+    public <T extends Statement> T register(T statement, Integer timeoutInMillis) throws SQLException {
+        if (timeoutInMillis != null && timeoutInMillis > 0) {
+            // The timeout of a statement is in whole seconds, so it is rounded up, to never cut a query short
+            statement.setQueryTimeout((timeoutInMillis + MILLIS_IN_A_SECOND - 1) / MILLIS_IN_A_SECOND);
+        }
+
+        this.statement.set(statement);
+        if (isCancelled) {
+            release();
+            throw new CancellationException("The execution was cancelled before the query was sent to the database");
+        }
+
+        return statement;
+    }
+
+    /**
+     * Stops tracking the registered statement. Call this before closing it, so that a late cancellation can't reach a
+     * statement that is already closed.
+     */
+    public void release() {
+        statement.set(null);
+    }
+
+    /**
+     * Cancels the registered statement, if it is still running, and makes any later registration fail.
+     */
+    public void cancel() {
+        isCancelled = true;
+        final Statement runningStatement = statement.getAndSet(null);
+        if (runningStatement == null) {
+            return;
+        }
+
+        try {
+            runningStatement.cancel();
+            log.debug("Cancelled a running statement after its execution was cancelled");
+        } catch (SQLException | RuntimeException e) {
+            // The statement may have completed, or been closed, in the meanwhile
+            log.debug("Failed to cancel a running statement", e);
+        }
+    }
+}
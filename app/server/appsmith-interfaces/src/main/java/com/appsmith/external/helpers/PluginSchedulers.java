@@ -0,0 +1,81 @@
+package com.appsmith.external.helpers;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out the schedulers that plugins run their blocking calls on, one per plugin.
+ *
+ * Each scheduler is a bounded elastic scheduler of its own, instead of the global {@link Schedulers#boundedElastic()}
+ * that every plugin used to share, so a slow datasource can only tie up the threads of its own plugin. Once all of
+ * them are busy, tasks wait in a bounded queue, and when that is full as well, the task is rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException}, rather than waiting behind an unbounded backlog.
+ *
+ * The schedulers are instrumented under the {@value #METRICS_PREFIX} prefix, tagged with the plugin name. The
+ * {@code tasks.pending} long task timer gives the depth of the queue and how long tasks wait in it.
+ *
+ * The sizes can be set with the {@code APPSMITH_PLUGIN_EXECUTION_THREAD_CAP} and
+ * {@code APPSMITH_PLUGIN_EXECUTION_QUEUE_CAP} environment variables, and apply to every plugin.
+ */
+@Slf4j
+public final class PluginSchedulers {
+
+    public static final String METRICS_PREFIX = "appsmith.plugin.execution";
+
+    static final int DEFAULT_THREAD_CAP = Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE;
+
+    static final int DEFAULT_QUEUED_TASK_CAP = 1000;
+
+    private static final int IDLE_THREAD_TTL_SECONDS = 60;
+
+    private static final int THREAD_CAP =
+            getPositiveIntFromEnv("APPSMITH_PLUGIN_EXECUTION_THREAD_CAP", DEFAULT_THREAD_CAP);
+
+    private static final int QUEUED_TASK_CAP =
+            getPositiveIntFromEnv("APPSMITH_PLUGIN_EXECUTION_QUEUE_CAP", DEFAULT_QUEUED_TASK_CAP);
+
+    private static final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+
+    private PluginSchedulers() {}
+
+    /**
+     * @param pluginName a short name of the plugin, used in thread names and as the metrics tag
+     * @return the scheduler of the given plugin, created on first use and shared by all its executions
+     */
+    public static Scheduler get(String pluginName) {
+        return schedulers.computeIfAbsent(pluginName, name -> newBulkhead(name, THREAD_CAP, QUEUED_TASK_CAP));
+    }
+
+    static Scheduler newBulkhead(String pluginName, int threadCap, int queuedTaskCap) {
+        final Scheduler scheduler = Schedulers.newBoundedElastic(
+                threadCap, queuedTaskCap, "plugin-" + pluginName, IDLE_THREAD_TTL_SECONDS, true);
+        return Micrometer.timedScheduler(
+                scheduler, Metrics.globalRegistry, METRICS_PREFIX, Tags.of("plugin", pluginName));
+    }
+
+    private static int getPositiveIntFromEnv(String name, int defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            final int parsedValue = Integer.parseInt(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException ignored) {
+            // Falls through to the warning below
+        }
+
+        log.warn("Ignoring invalid value {} of {}, using {} instead", value, name, defaultValue);
+        return defaultValue;
+    }
+}
@@ -0,0 +1,115 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registry of reactor-netty {@link HttpClient} instances shared by all REST API and GraphQL action executions.
+ *
+ * All clients are backed by one bounded {@link ConnectionProvider}. Reactor-netty keeps a separate pool per remote
+ * address and client configuration inside the provider, so connections to the same host are reused across executions
+ * instead of paying a TCP and TLS handshake every time. Clients are cached by their protocol and SSL settings, which
+ * keeps the SSL context, and therefore the pool key, stable between executions of the same datasource.
+ */
+@Slf4j
+public class HttpClientRegistry {
+
+    private static final String CONNECTION_PROVIDER_NAME = "rest-api-provider";
+
+    private static final int MAX_CONNECTIONS_PER_HOST = 100;
+
+    private static final int MAX_CACHED_CLIENTS = 256;
+
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(60);
+
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private static final Duration INACTIVE_POOL_DISPOSE_INTERVAL = Duration.ofMinutes(5);
+
+    private static final Duration INACTIVE_POOL_DISPOSE_GRACE_PERIOD = Duration.ofMinutes(10);
+
+    private static final ConnectionProvider CONNECTION_PROVIDER = ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
+            .maxConnections(MAX_CONNECTIONS_PER_HOST)
+            .maxIdleTime(MAX_IDLE_TIME)
+            .maxLifeTime(MAX_LIFE_TIME)
+            .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+            .evictInBackground(EVICTION_INTERVAL)
+            // Pools for hosts that are no longer called are released, so the provider does not grow unbounded.
+            .disposeInactivePoolsInBackground(INACTIVE_POOL_DISPOSE_INTERVAL, INACTIVE_POOL_DISPOSE_GRACE_PERIOD)
+            // Publishes `reactor.netty.connection.provider.*` gauges to the global Micrometer registry.
+            .metrics(true, Function.identity())
+            .build();
+
+    private static final Map<ClientKey, HttpClient> CLIENTS =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ClientKey, HttpClient> eldest) {
+                    return size() > MAX_CACHED_CLIENTS;
+                }
+            });
+
+    private HttpClientRegistry() {}
+
+    /**
+     * Returns a pooled {@link HttpClient} for the given datasource SSL settings and HTTP protocol. When the protocol is
+     * HTTP/2, requests to the same host are multiplexed over the pooled connections.
+     */
+    public static HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        final ClientKey key = ClientKey.of(datasourceConfiguration, httpProtocol);
+        return CLIENTS.computeIfAbsent(key, ignored -> createHttpClient(datasourceConfiguration, httpProtocol));
+    }
+
+    private static HttpClient createHttpClient(
+            DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        log.debug("Creating pooled http client for protocol {}", httpProtocol);
+        return HttpClient.create(CONNECTION_PROVIDER)
+                .protocol(httpProtocol)
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+    }
+
+    /**
+     * Everything that {@link #createHttpClient} reads from the datasource configuration, so that two datasources with
+     * the same settings share a client, and a change in settings always yields a new one.
+     */
+    @Value
+    private static class ClientKey {
+        HttpProtocol httpProtocol;
+        SSLDetails.AuthType sslAuthType;
+        String certificateContent;
+
+        static ClientKey of(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+            SSLDetails.AuthType authType = null;
+            String certificateContent = null;
+
+            if (datasourceConfiguration.getConnection() != null
+                    && datasourceConfiguration.getConnection().getSsl() != null) {
+                final SSLDetails ssl = datasourceConfiguration.getConnection().getSsl();
+                authType = ssl.getAuthType();
+                if (authType == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+                    final UploadedFile certificateFile = ssl.getCertificateFile();
+                    certificateContent = certificateFile == null ? null : certificateFile.getBase64Content();
+                }
+            }
+
+            return new ClientKey(httpProtocol, authType, certificateContent);
+        }
+    }
+}
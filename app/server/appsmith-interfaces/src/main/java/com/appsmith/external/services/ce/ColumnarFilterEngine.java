@@ -0,0 +1,703 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Pure Java implementation of the UQI in-memory filtering used by {@link FilterDataServiceCE}.
+ *
+ * The data is loaded once into typed columns (numbers, booleans, dates and timestamps as primitive `long` or `double`
+ * arrays, everything else as strings) and the where clause is evaluated one column at a time into row bitsets. Sort,
+ * pagination and projection then work on row indexes only. The semantics follow the SQL that
+ * {@link FilterDataServiceCE} generates for H2, including SQL's three valued logic for null values, so that both paths
+ * return the same rows with the same value types.
+ */
+public class ColumnarFilterEngine {
+
+    private static final Set<ConditionalOperator> NULL_MATCHING_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> NOT_NULL_MATCHING_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final String DEFAULT_LIMIT = "20";
+
+    private static final String DEFAULT_OFFSET = "0";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<DataType, Set<DataType>> datatypeCompatibilityMap;
+
+    public ColumnarFilterEngine(ObjectMapper objectMapper, Map<DataType, Set<DataType>> datatypeCompatibilityMap) {
+        this.objectMapper = objectMapper;
+        this.datatypeCompatibilityMap = datatypeCompatibilityMap;
+    }
+
+    /**
+     * Filters, sorts, paginates and projects the given rows.
+     *
+     * @param items                 - data
+     * @param schema                - column names and data types, as generated by `generateSchema`
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered data
+     */
+    public ArrayNode filter(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        final int rowCount = items.size();
+
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            columns.put(entry.getKey(), loadColumn(entry.getKey(), entry.getValue(), items, dataTypeConversionMap));
+        }
+
+        BitSet selectedRows = new BitSet(rowCount);
+        selectedRows.set(0, rowCount);
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            Truth truth = condition.getValue() instanceof List
+                    ? evaluateGroup((List<Condition>) condition.getValue(), condition.getOperator(), columns, rowCount)
+                    : evaluateCondition(condition, columns, rowCount);
+            if (truth != null) {
+                // Rows for which the where clause is false or unknown (null) are dropped, just like in SQL.
+                selectedRows = truth.isTrue;
+            }
+        }
+
+        int[] rowIndexes = selectedRows.stream().toArray();
+        rowIndexes = sortRows(rowIndexes, uqiDataFilterParams.getSortBy(), columns);
+        rowIndexes = paginateRows(rowIndexes, uqiDataFilterParams.getPaginateBy());
+
+        return toArrayNode(rowIndexes, getProjectedColumns(uqiDataFilterParams.getProjectionColumns(), columns));
+    }
+
+    private Column loadColumn(
+            String name, DataType dataType, ArrayNode items, Map<DataType, DataType> dataTypeConversionMap) {
+        final Column column = new Column(name, dataType, items.size());
+
+        for (int row = 0; row < items.size(); row++) {
+            JsonNode fieldNode = items.get(row).get(name);
+            Object value =
+                    fieldNode == null ? null : toColumnValue(fieldNode.asText(), dataType, dataTypeConversionMap);
+            column.set(row, value);
+        }
+
+        return column;
+    }
+
+    /**
+     * Converts a cell or condition value into the storage representation of a column of the given type. This mirrors
+     * the way values are bound to the prepared statements of the H2 path, including the errors raised for values that
+     * cannot be parsed as the column type.
+     */
+    private Object toColumnValue(String value, DataType columnDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = columnDataType;
+        if (dataTypeConversionMap != null) {
+            dataType = dataTypeConversionMap.getOrDefault(columnDataType, columnDataType);
+        }
+
+        if (StringUtils.isEmpty(value)) {
+            return null;
+        }
+
+        if (dataTypeConversionMap == null) {
+            // Without a conversion map the only thing the detected data type decides is whether the value is null,
+            // which can be checked without running the full detection for every cell.
+            if (isNullLiteral(value)) {
+                return null;
+            }
+        } else {
+            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+            DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+            if (DataType.NULL.equals(inputDataType)) {
+                return null;
+            }
+            // Incompatible data types in a row are treated as null, rather than failing the whole filter.
+            if (inputDataType != dataType
+                    && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+                return null;
+            }
+        }
+
+        String strNumericValue = value.trim().replace(",", "");
+
+        try {
+            switch (dataType) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    return (long) Integer.parseInt(strNumericValue);
+                case LONG:
+                    return Long.parseLong(strNumericValue);
+                case FLOAT:
+                    return (double) new BigDecimal(strNumericValue).floatValue();
+                case DOUBLE:
+                    return new BigDecimal(strNumericValue).doubleValue();
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value) ? 1L : 0L;
+                case DATE:
+                    return parseDate(value.trim()).toEpochDay();
+                case TIMESTAMP:
+                    return toEpochMicros(parseTimestamp(value.trim()));
+                case STRING:
+                default:
+                    return value;
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + dataType);
+        }
+    }
+
+    /**
+     * Same as `stringToKnownDataTypeConverter(value) == DataType.NULL` for a non-empty value.
+     */
+    private static boolean isNullLiteral(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+
+        return "null".equalsIgnoreCase(value.trim());
+    }
+
+    private static LocalDate parseDate(String value) {
+        int timeSeparatorIndex = StringUtils.indexOfAny(value, 'T', ' ');
+        if (timeSeparatorIndex > 0) {
+            value = value.substring(0, timeSeparatorIndex);
+        }
+
+        return LocalDate.parse(value);
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        String isoValue = value.replaceFirst(" ", "T");
+        try {
+            return LocalDateTime.parse(isoValue);
+        } catch (DateTimeException e) {
+            // Not a local date time, try the other representations below
+        }
+
+        try {
+            return OffsetDateTime.parse(isoValue)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        } catch (DateTimeException e) {
+            // Not an offset date time either, fall back to a date at the start of the day
+        }
+
+        return parseDate(value).atStartOfDay();
+    }
+
+    private static long toEpochMicros(LocalDateTime localDateTime) {
+        return localDateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + localDateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        long epochSecond = Math.floorDiv(epochMicros, 1_000_000L);
+        int nanoOfSecond = (int) Math.floorMod(epochMicros, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, ZoneOffset.UTC);
+    }
+
+    /**
+     * Combines the results of the given conditions with the logical operator of their group. Conditions without a
+     * column, and groups without any conditions, are ignored.
+     *
+     * @return the combined result, or null if no condition in the group applies
+     */
+    private Truth evaluateGroup(
+            List<Condition> conditions, ConditionalOperator logicOp, Map<String, Column> columns, int rowCount) {
+        Truth result = null;
+
+        for (Condition condition : conditions) {
+            if (!Condition.isValid(condition)) {
+                continue;
+            }
+
+            ConditionalOperator operator = condition.getOperator();
+            Truth truth;
+            if (ConditionalOperator.AND.equals(operator) || ConditionalOperator.OR.equals(operator)) {
+                if (!(condition.getValue() instanceof List)) {
+                    continue;
+                }
+                truth = evaluateGroup((List<Condition>) condition.getValue(), operator, columns, rowCount);
+            } else {
+                truth = evaluateCondition(condition, columns, rowCount);
+            }
+
+            if (truth == null) {
+                continue;
+            }
+
+            if (result == null) {
+                result = truth;
+            } else if (ConditionalOperator.OR.equals(logicOp)) {
+                result.or(truth);
+            } else {
+                result.and(truth);
+            }
+        }
+
+        return result;
+    }
+
+    private Truth evaluateCondition(Condition condition, Map<String, Column> columns, int rowCount) {
+        final Column column = getColumn(condition.getPath(), columns);
+        final ConditionalOperator operator = condition.getOperator();
+        final String value = condition.getValue() == null ? null : String.valueOf(condition.getValue());
+
+        if (StringUtils.isEmpty(value)) {
+            if (NULL_MATCHING_OPERATORS.contains(operator)) {
+                return Truth.of(column.nulls, rowCount);
+            } else if (NOT_NULL_MATCHING_OPERATORS.contains(operator)) {
+                BitSet notNulls = (BitSet) column.nulls.clone();
+                notNulls.flip(0, rowCount);
+                return Truth.of(notNulls, rowCount);
+            }
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    operator + " is not supported currently for filtering.");
+        }
+
+        switch (operator) {
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE:
+                return compare(column, operator, toColumnValue(value, column.dataType, null), rowCount);
+            case IN:
+            case NOT_IN:
+                return matchAny(column, operator, parseArrayValues(value, column), rowCount);
+            case CONTAINS:
+                return contains(column, value, rowCount);
+            default:
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        operator + " is not supported currently for filtering.");
+        }
+    }
+
+    private Truth compare(Column column, ConditionalOperator operator, Object operand, int rowCount) {
+        final Truth truth = new Truth(rowCount);
+        if (operand == null) {
+            // Comparing with null is unknown for every row
+            return truth;
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            if (column.nulls.get(row)) {
+                continue;
+            }
+
+            int comparison = column.compareTo(row, operand);
+            boolean matches;
+            switch (operator) {
+                case LT:
+                    matches = comparison < 0;
+                    break;
+                case LTE:
+                    matches = comparison <= 0;
+                    break;
+                case EQ:
+                    matches = comparison == 0;
+                    break;
+                case NOT_EQ:
+                    matches = comparison != 0;
+                    break;
+                case GT:
+                    matches = comparison > 0;
+                    break;
+                case GTE:
+                default:
+                    matches = comparison >= 0;
+                    break;
+            }
+            truth.set(row, matches);
+        }
+
+        return truth;
+    }
+
+    private Truth matchAny(Column column, ConditionalOperator operator, List<Object> operands, int rowCount) {
+        final Truth truth = new Truth(rowCount);
+        final boolean hasNullOperand = operands.contains(null);
+        final boolean isNegated = ConditionalOperator.NOT_IN.equals(operator);
+
+        for (int row = 0; row < rowCount; row++) {
+            if (column.nulls.get(row)) {
+                continue;
+            }
+
+            boolean found = false;
+            for (Object operand : operands) {
+                if (operand != null && column.compareTo(row, operand) == 0) {
+                    found = true;
+                    break;
+                }
+            }
+
+            if (found) {
+                truth.set(row, !isNegated);
+            } else if (!hasNullOperand) {
+                truth.set(row, isNegated);
+            }
+        }
+
+        return truth;
+    }
+
+    private Truth contains(Column column, String value, int rowCount) {
+        final Truth truth = new Truth(rowCount);
+
+        for (int row = 0; row < rowCount; row++) {
+            if (column.nulls.get(row)) {
+                continue;
+            }
+            truth.set(row, column.getText(row).contains(value));
+        }
+
+        return truth;
+    }
+
+    private List<Object> parseArrayValues(String value, Column column) {
+        final List<Object> arrayValues;
+        try {
+            arrayValues = objectMapper.readValue(value, List.class);
+        } catch (IOException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, value + " could not be parsed into an array");
+        }
+
+        List<Object> operands = new ArrayList<>(arrayValues.size());
+        for (Object arrayValue : arrayValues) {
+            operands.add(toColumnValue(String.valueOf(arrayValue), column.dataType, null));
+        }
+        return operands;
+    }
+
+    private int[] sortRows(int[] rowIndexes, List<Map<String, String>> sortBy, Map<String, Column> columns) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return rowIndexes;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            final Column column = getColumn(columnName, columns);
+            Comparator<Integer> columnComparator = column::compareRows;
+            if (SortType.DESCENDING.equals(getSortType(sortCondition))) {
+                columnComparator = columnComparator.reversed();
+            }
+
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        if (comparator == null) {
+            return rowIndexes;
+        }
+
+        // Stream sorting is stable, so rows that compare equal keep their original order.
+        return IntStream.of(rowIndexes)
+                .boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static SortType getSortType(Map<String, String> sortCondition) {
+        String sortType = sortCondition.get(SORT_BY_TYPE_KEY);
+        try {
+            return SortType.valueOf(sortType == null ? "" : sortType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    "Appsmith server failed "
+                            + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                            + "to resolve this.");
+        }
+    }
+
+    private static int[] paginateRows(int[] rowIndexes, Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return rowIndexes;
+        }
+
+        int limit = parsePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), DEFAULT_LIMIT);
+        int offset = parsePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), DEFAULT_OFFSET);
+
+        int from = Math.min(offset, rowIndexes.length);
+        int to = (int) Math.min((long) from + limit, rowIndexes.length);
+        return Arrays.copyOfRange(rowIndexes, from, to);
+    }
+
+    private static int parsePaginationValue(String value, String defaultValue) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+
+        final int parsedValue;
+        try {
+            parsedValue = Integer.parseInt(value.trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + DataType.INTEGER);
+        }
+
+        if (parsedValue < 0) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : invalid pagination value " + parsedValue);
+        }
+        return parsedValue;
+    }
+
+    private static List<Column> getProjectedColumns(List<String> projectionColumns, Map<String, Column> columns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.values());
+        }
+
+        List<Column> projectedColumns = new ArrayList<>(projectionColumns.size());
+        for (String columnName : projectionColumns) {
+            projectedColumns.add(getColumn(columnName, columns));
+        }
+        return projectedColumns;
+    }
+
+    private static Column getColumn(String columnName, Map<String, Column> columns) {
+        Column column = columns.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : " + columnName + " not found in the known column names :"
+                            + columns.keySet());
+        }
+        return column;
+    }
+
+    private ArrayNode toArrayNode(int[] rowIndexes, List<Column> projectedColumns) {
+        ArrayNode result = objectMapper.createArrayNode();
+
+        for (int row : rowIndexes) {
+            ObjectNode rowNode = result.addObject();
+            for (Column column : projectedColumns) {
+                rowNode.set(column.name, column.toJsonNode(row));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A single column of the data, stored by type: integers, longs, booleans, dates and timestamps in a `long` array,
+     * floats and doubles in a `double` array, and all other types as strings.
+     */
+    private static class Column {
+        final String name;
+        final DataType dataType;
+        final BitSet nulls;
+        long[] longValues;
+        double[] doubleValues;
+        String[] stringValues;
+
+        Column(String name, DataType dataType, int rowCount) {
+            this.name = name;
+            this.dataType = dataType;
+            this.nulls = new BitSet(rowCount);
+
+            switch (dataType) {
+                case INTEGER:
+                case LONG:
+                case BOOLEAN:
+                case DATE:
+                case TIMESTAMP:
+                    longValues = new long[rowCount];
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    doubleValues = new double[rowCount];
+                    break;
+                default:
+                    stringValues = new String[rowCount];
+            }
+        }
+
+        void set(int row, Object value) {
+            if (value == null) {
+                nulls.set(row);
+            } else if (longValues != null) {
+                // A conversion map may have parsed the value as a different numeric type than the column's own
+                longValues[row] = value instanceof Double ? Math.round((Double) value) : (Long) value;
+            } else if (doubleValues != null) {
+                doubleValues[row] = ((Number) value).doubleValue();
+            } else {
+                stringValues[row] = String.valueOf(value);
+            }
+        }
+
+        /**
+         * Compares the non-null value at the given row with an operand in the storage representation of this column.
+         */
+        int compareTo(int row, Object operand) {
+            if (longValues != null) {
+                return Long.compare(longValues[row], (Long) operand);
+            } else if (doubleValues != null) {
+                return Double.compare(doubleValues[row], (Double) operand);
+            }
+            return stringValues[row].compareTo((String) operand);
+        }
+
+        /**
+         * Compares two rows, with null values sorted before all other values.
+         */
+        int compareRows(int row1, int row2) {
+            boolean isNull1 = nulls.get(row1);
+            boolean isNull2 = nulls.get(row2);
+            if (isNull1 || isNull2) {
+                return Boolean.compare(!isNull1, !isNull2);
+            }
+
+            if (longValues != null) {
+                return Long.compare(longValues[row1], longValues[row2]);
+            } else if (doubleValues != null) {
+                return Double.compare(doubleValues[row1], doubleValues[row2]);
+            }
+            return stringValues[row1].compareTo(stringValues[row2]);
+        }
+
+        String getText(int row) {
+            return stringValues != null ? stringValues[row] : toJsonNode(row).asText();
+        }
+
+        /**
+         * Returns the value at the given row as the same JSON node that the H2 path produces for the column type,
+         * where dates and timestamps are serialized as epoch milliseconds. Null values are returned as empty strings.
+         */
+        JsonNode toJsonNode(int row) {
+            if (nulls.get(row)) {
+                return TextNode.valueOf("");
+            }
+
+            switch (dataType) {
+                case INTEGER:
+                    return IntNode.valueOf((int) longValues[row]);
+                case LONG:
+                    return LongNode.valueOf(longValues[row]);
+                case BOOLEAN:
+                    return BooleanNode.valueOf(longValues[row] != 0);
+                case DATE:
+                    return LongNode.valueOf(Date.valueOf(LocalDate.ofEpochDay(longValues[row])).getTime());
+                case TIMESTAMP:
+                    return LongNode.valueOf(Timestamp.valueOf(fromEpochMicros(longValues[row])).getTime());
+                case FLOAT:
+                    return FloatNode.valueOf((float) doubleValues[row]);
+                case DOUBLE:
+                    return DoubleNode.valueOf(doubleValues[row]);
+                default:
+                    return TextNode.valueOf(stringValues[row]);
+            }
+        }
+    }
+
+    /**
+     * Result of a condition over all rows in SQL's three valued logic. Rows that are in neither set are unknown, which
+     * happens when a null value takes part in a comparison.
+     */
+    private static class Truth {
+        final BitSet isTrue;
+        final BitSet isFalse;
+
+        Truth(int rowCount) {
+            this.isTrue = new BitSet(rowCount);
+            this.isFalse = new BitSet(rowCount);
+        }
+
+        static Truth of(BitSet trueRows, int rowCount) {
+            Truth truth = new Truth(rowCount);
+            truth.isTrue.or(trueRows);
+            truth.isFalse.set(0, rowCount);
+            truth.isFalse.andNot(trueRows);
+            return truth;
+        }
+
+        void set(int row, boolean value) {
+            if (value) {
+                isTrue.set(row);
+            } else {
+                isFalse.set(row);
+            }
+        }
+
+        void and(Truth other) {
+            isTrue.and(other.isTrue);
+            isFalse.or(other.isFalse);
+        }
+
+        void or(Truth other) {
+            isTrue.or(other.isTrue);
+            isFalse.and(other.isFalse);
+        }
+    }
+}
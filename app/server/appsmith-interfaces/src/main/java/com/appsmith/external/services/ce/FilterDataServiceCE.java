@@ -52,8 +52,17 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
+    private final ColumnarFilterEngine columnarFilterEngine;
     private Connection connection;
 
+    /**
+     * Filtering runs on {@link ColumnarFilterEngine} by default. Setting this environment variable to `true` switches
+     * back to the H2 based filtering, which is also what the result parity tests compare against.
+     */
+    private static final String FILTER_WITH_H2_ENV_VARIABLE = "APPSMITH_FILTER_WITH_H2";
+
+    private static final boolean FILTER_WITH_H2 = "true".equalsIgnoreCase(System.getenv(FILTER_WITH_H2_ENV_VARIABLE));
+
     private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
 
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
@@ -99,14 +108,18 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper, datatypeCompatibilityMap);
 
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
+        if (FILTER_WITH_H2) {
+            try {
+                connection = DriverManager.getConnection(URL);
+            } catch (SQLException e) {
+                log.error(e.getMessage());
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Failed to connect to the in memory database. Unable to perform filtering : "
+                                + e.getMessage());
+            }
         }
     }
 
@@ -134,6 +147,44 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        if (!FILTER_WITH_H2) {
+            return columnarFilterEngine.filter(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+        }
+
+        return filterDataWithH2(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+    }
+
+    /**
+     * Filters the data through a temporary table in the in-memory H2 database. This is the original implementation of
+     * `filterDataNew`, kept for comparing results with {@link ColumnarFilterEngine}.
+     *
+     * @param items                 - data
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered data
+     */
+    public ArrayNode filterDataWithH2(
+            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        if (items == null || items.size() == 0) {
+            return items;
+        }
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            Condition updatedCondition = addValueDataType(condition);
+            uqiDataFilterParams.setCondition(updatedCondition);
+        }
+
+        return filterDataWithH2(
+                items, generateSchema(items, dataTypeConversionMap), uqiDataFilterParams, dataTypeConversionMap);
+    }
+
+    private ArrayNode filterDataWithH2(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
         String tableName = generateTable(schema);
 
         // insert the data
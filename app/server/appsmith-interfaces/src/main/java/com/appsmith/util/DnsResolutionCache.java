@@ -0,0 +1,175 @@
+package com.appsmith.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.internal.SocketUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.Security;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Resolves host names off the Netty event loop, and caches the results.
+ *
+ * The JDK resolver is blocking, so lookups run on a small dedicated thread pool and hand back a future. Concurrent
+ * lookups of the same host share one in-flight lookup. Both successful and failed lookups are cached for the TTLs that
+ * the JVM uses for its own address cache, `networkaddress.cache.ttl` and `networkaddress.cache.negative.ttl`, so a
+ * cached answer is never older than what `InetAddress` itself would return. The cache holds raw lookup results only,
+ * callers are expected to validate the addresses on every resolution.
+ */
+@Slf4j
+class DnsResolutionCache {
+
+    private static final Duration DEFAULT_POSITIVE_TTL = Duration.ofSeconds(30);
+
+    private static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    private static final int MAX_CACHED_HOSTS = 1024;
+
+    private static final int LOOKUP_THREADS = 16;
+
+    static final DnsResolutionCache INSTANCE = new DnsResolutionCache(
+            SocketUtils::allAddressesByName,
+            createLookupExecutor(),
+            getTtlFromSecurityProperty("networkaddress.cache.ttl", DEFAULT_POSITIVE_TTL),
+            getTtlFromSecurityProperty("networkaddress.cache.negative.ttl", DEFAULT_NEGATIVE_TTL),
+            System::currentTimeMillis);
+
+    @FunctionalInterface
+    interface Lookup {
+        InetAddress[] lookup(String host) throws UnknownHostException;
+    }
+
+    private final Lookup lookup;
+
+    private final Executor lookupExecutor;
+
+    private final long positiveTtlMillis;
+
+    private final long negativeTtlMillis;
+
+    private final LongSupplier clock;
+
+    private final Map<String, CacheEntry> cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > MAX_CACHED_HOSTS;
+        }
+    });
+
+    private final Map<String, CompletableFuture<List<InetAddress>>> inFlightLookups = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter = Metrics.counter("appsmith.dns.cache", "result", "hit");
+
+    private final Counter negativeHitCounter = Metrics.counter("appsmith.dns.cache", "result", "negative_hit");
+
+    private final Counter missCounter = Metrics.counter("appsmith.dns.cache", "result", "miss");
+
+    private final Timer successfulLookupTimer = Metrics.timer("appsmith.dns.lookup", "outcome", "success");
+
+    private final Timer failedLookupTimer = Metrics.timer("appsmith.dns.lookup", "outcome", "failure");
+
+    DnsResolutionCache(
+            Lookup lookup, Executor lookupExecutor, Duration positiveTtl, Duration negativeTtl, LongSupplier clock) {
+        this.lookup = lookup;
+        this.lookupExecutor = lookupExecutor;
+        this.positiveTtlMillis = positiveTtl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns all addresses of the host, from the cache when there is a live entry for it. The future fails with an
+     * {@link UnknownHostException} when the host could not be resolved.
+     */
+    CompletableFuture<List<InetAddress>> resolveAll(String host) {
+        final CacheEntry entry = cache.get(host);
+        if (entry != null && entry.expiresAt > clock.getAsLong()) {
+            if (entry.failure != null) {
+                negativeHitCounter.increment();
+                return CompletableFuture.failedFuture(entry.failure);
+            }
+            hitCounter.increment();
+            return CompletableFuture.completedFuture(entry.addresses);
+        }
+
+        missCounter.increment();
+
+        final CompletableFuture<List<InetAddress>> lookupFuture = new CompletableFuture<>();
+        final CompletableFuture<List<InetAddress>> inFlightFuture = inFlightLookups.putIfAbsent(host, lookupFuture);
+        if (inFlightFuture != null) {
+            return inFlightFuture;
+        }
+
+        lookupExecutor.execute(() -> {
+            final long startNanos = System.nanoTime();
+            try {
+                final List<InetAddress> addresses = List.of(lookup.lookup(host));
+                successfulLookupTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                cache.put(host, new CacheEntry(addresses, null, clock.getAsLong() + positiveTtlMillis));
+                lookupFuture.complete(addresses);
+            } catch (UnknownHostException e) {
+                failedLookupTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                cache.put(host, new CacheEntry(null, e, clock.getAsLong() + negativeTtlMillis));
+                lookupFuture.completeExceptionally(e);
+            } catch (Throwable e) {
+                // Not cached, the next resolution of this host tries again.
+                failedLookupTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                log.warn("Unexpected error resolving host {}", host, e);
+                lookupFuture.completeExceptionally(e);
+            } finally {
+                inFlightLookups.remove(host, lookupFuture);
+            }
+        });
+
+        return lookupFuture;
+    }
+
+    private static Executor createLookupExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                LOOKUP_THREADS,
+                LOOKUP_THREADS,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DefaultThreadFactory("appsmith-dns-resolver", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Reads a TTL in seconds from a JVM security property. A missing or invalid value, or the "cache forever" value
+     * of -1, falls back to the given default.
+     */
+    private static Duration getTtlFromSecurityProperty(String name, Duration defaultTtl) {
+        final String value = Security.getProperty(name);
+        if (value == null) {
+            return defaultTtl;
+        }
+
+        try {
+            final long seconds = Long.parseLong(value.trim());
+            return seconds < 0 ? defaultTtl : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value {} for security property {}, using {}", value, name, defaultTtl);
+            return defaultTtl;
+        }
+    }
+
+    private record CacheEntry(List<InetAddress> addresses, UnknownHostException failure, long expiresAt) {}
+}
@@ -8,7 +8,6 @@ import io.netty.resolver.InetNameResolver;
 import io.netty.resolver.InetSocketAddressResolver;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
-import io.netty.util.internal.SocketUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.validator.routines.InetAddressValidator;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -24,11 +23,11 @@ import reactor.netty.resources.ConnectionProvider;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 public class WebClientUtils {
@@ -166,6 +165,11 @@ public class WebClientUtils {
         return inetAddressValidator.isValid(host);
     }
 
+    /**
+     * Resolves host names through {@link DnsResolutionCache}, so the blocking lookup never runs on the event loop, and
+     * fails the resolution if the host or any address it resolves to is disallowed. The disallowed check runs on every
+     * resolution, including ones answered from the cache.
+     */
     private static class NameResolver extends InetNameResolver {
 
         public NameResolver(EventExecutor executor) {
@@ -178,19 +182,19 @@ public class WebClientUtils {
                 return;
             }
 
-            final InetAddress address;
-            try {
-                address = SocketUtils.addressByName(inetHost);
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
+            DnsResolutionCache.INSTANCE.resolveAll(inetHost).whenComplete((addresses, error) -> {
+                if (error != null) {
+                    promise.tryFailure(unwrapCompletionException(error));
+                    return;
+                }
 
-            if (isDisallowedAndFail(address.getHostAddress(), promise)) {
-                return;
-            }
+                final InetAddress address = addresses.get(0);
+                if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+                    return;
+                }
 
-            promise.setSuccess(address);
+                promise.trySuccess(address);
+            });
         }
 
         @Override
@@ -199,22 +203,25 @@ public class WebClientUtils {
                 return;
             }
 
-            final List<InetAddress> addresses;
-            try {
-                addresses = Arrays.asList(SocketUtils.allAddressesByName(inetHost));
-            } catch (UnknownHostException e) {
-                promise.setFailure(e);
-                return;
-            }
-
-            // Even if _one_ of the addresses is disallowed, we fail the request.
-            for (InetAddress address : addresses) {
-                if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+            DnsResolutionCache.INSTANCE.resolveAll(inetHost).whenComplete((addresses, error) -> {
+                if (error != null) {
+                    promise.tryFailure(unwrapCompletionException(error));
                     return;
                 }
-            }
 
-            promise.setSuccess(addresses);
+                // Even if _one_ of the addresses is disallowed, we fail the request.
+                for (InetAddress address : addresses) {
+                    if (isDisallowedAndFail(address.getHostAddress(), promise)) {
+                        return;
+                    }
+                }
+
+                promise.trySuccess(addresses);
+            });
+        }
+
+        private static Throwable unwrapCompletionException(Throwable error) {
+            return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
         }
     }
 }
@@ -254,6 +254,24 @@ public class DataTypeStringUtilsTest {
                 .anyMatch(parsedDataType -> parsedDataType.getDataType().equals(DisplayDataType.TABLE));
     }
 
+    @Test
+    public void testGetDisplayDataTypes_withMixedArrayInString_returnsJsonWithoutTable() {
+        final List<ParsedDataType> displayDataTypes = getDisplayDataTypes("[{\"k\": 1}, 2, [3]]");
+
+        assertThat(displayDataTypes)
+                .extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.JSON, DisplayDataType.RAW);
+    }
+
+    @Test
+    public void testGetDisplayDataTypes_withMalformedJsonInString_returnsRawOnly() {
+        final List<ParsedDataType> displayDataTypes = getDisplayDataTypes("[{\"k\": 1}, {\"k\": ]");
+
+        assertThat(displayDataTypes)
+                .extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.RAW);
+    }
+
     @Test
     public void
             testJsonSmartReplacementPlaceholderWithValue_withReplacementDataTypeArray_returnsCorrectMultilineString() {
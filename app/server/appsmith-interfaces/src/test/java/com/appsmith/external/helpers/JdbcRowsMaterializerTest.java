@@ -0,0 +1,88 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcRowsMaterializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        when(metaData.getColumnCount()).thenReturn(3);
+        when(metaData.getColumnName(1)).thenReturn("id");
+        when(metaData.getColumnName(2)).thenReturn("name");
+        when(metaData.getColumnName(3)).thenReturn("price");
+        when(metaData.getColumnTypeName(1)).thenReturn("int4");
+        when(metaData.getColumnTypeName(2)).thenReturn("varchar");
+        when(metaData.getColumnTypeName(3)).thenReturn("numeric");
+
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1);
+        when(resultSet.getObject(2)).thenReturn("café \"au lait\"");
+        when(resultSet.getObject(3)).thenReturn(new BigDecimal("12.50"), (Object) null);
+    }
+
+    @Test
+    public void testMaterialize_computesSizeOfSerializedRows() throws Exception {
+        JdbcRowsMaterializer materializer =
+                new JdbcRowsMaterializer(objectMapper, typeName -> JdbcRowsMaterializer.OBJECT_READER);
+
+        ArrayNode rows = objectMapper.createArrayNode();
+        long size = materializer.materializeInto(resultSet, rows);
+
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0).get("id").asInt());
+        assertEquals("café \"au lait\"", rows.get(0).get("name").asText());
+        assertEquals(new BigDecimal("12.50"), rows.get(0).get("price").decimalValue());
+        assertTrue(rows.get(1).get("price").isNull());
+        assertEquals(objectMapper.writeValueAsBytes(rows).length, size);
+    }
+
+    @Test
+    public void testMaterialize_resolvesColumnsOncePerResultSet() throws Exception {
+        JdbcRowsMaterializer materializer =
+                new JdbcRowsMaterializer(objectMapper, typeName -> JdbcRowsMaterializer.OBJECT_READER);
+
+        materializer.materialize(resultSet);
+
+        verify(metaData, times(3)).getColumnTypeName(anyInt());
+        verify(metaData, times(3)).getColumnName(anyInt());
+    }
+
+    @Test
+    public void testMaterialize_sizeLimitExceeded_throwsSuppliedError() throws Exception {
+        JdbcRowsMaterializer materializer = new JdbcRowsMaterializer(
+                objectMapper,
+                typeName -> JdbcRowsMaterializer.OBJECT_READER,
+                40,
+                () -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "too large"));
+
+        AppsmithPluginException exception =
+                assertThrows(AppsmithPluginException.class, () -> materializer.materialize(resultSet));
+        assertEquals(AppsmithPluginError.PLUGIN_ERROR.getTitle(), exception.getTitle());
+    }
+}
@@ -0,0 +1,67 @@
+package com.appsmith.external.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class JdbcStatementCancellerTest {
+
+    @Test
+    public void register_WhenTimeoutIsGiven_SetsItOnTheStatementInWholeSeconds() throws SQLException {
+        Statement statement = mock(Statement.class);
+
+        new JdbcStatementCanceller().register(statement, 10001);
+
+        verify(statement).setQueryTimeout(11);
+    }
+
+    @Test
+    public void register_WhenTimeoutIsNull_LeavesTheStatementTimeoutAsItIs() throws SQLException {
+        Statement statement = mock(Statement.class);
+
+        new JdbcStatementCanceller().register(statement, null);
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    public void cancel_WhenStatementIsRunning_CancelsIt() throws SQLException {
+        Statement statement = mock(Statement.class);
+        JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
+        statementCanceller.register(statement, 1000);
+
+        statementCanceller.cancel();
+
+        verify(statement).cancel();
+    }
+
+    @Test
+    public void cancel_WhenStatementIsReleased_DoesNotCancelIt() throws SQLException {
+        Statement statement = mock(Statement.class);
+        JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
+        statementCanceller.register(statement, 1000);
+        statementCanceller.release();
+
+        statementCanceller.cancel();
+
+        verify(statement, never()).cancel();
+    }
+
+    @Test
+    public void register_WhenAlreadyCancelled_FailsWithoutRunningTheStatement() {
+        Statement statement = mock(Statement.class);
+        JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
+        statementCanceller.cancel();
+
+        assertThatThrownBy(() -> statementCanceller.register(statement, 1000))
+                .isInstanceOf(CancellationException.class);
+    }
+}
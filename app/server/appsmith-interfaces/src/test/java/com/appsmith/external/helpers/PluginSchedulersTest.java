@@ -0,0 +1,56 @@
+package com.appsmith.external.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PluginSchedulersTest {
+
+    @Test
+    public void get_WhenCalledForTheSamePlugin_ReturnsTheSameScheduler() {
+        assertThat(PluginSchedulers.get("test-plugin")).isSameAs(PluginSchedulers.get("test-plugin"));
+        assertThat(PluginSchedulers.get("test-plugin")).isNotSameAs(PluginSchedulers.get("other-test-plugin"));
+    }
+
+    @Test
+    public void newBulkhead_WhenThreadsAndQueueAreFull_RejectsTheExecution() throws InterruptedException {
+        Scheduler scheduler = PluginSchedulers.newBulkhead("bulkhead-test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        try {
+            Mono<String> blockingMono = Mono.fromCallable(() -> {
+                        started.countDown();
+                        release.await();
+                        return "done";
+                    })
+                    .subscribeOn(scheduler);
+
+            // Takes the only thread
+            Mono<String> running = blockingMono.cache();
+            running.subscribe();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Takes the only slot in the queue
+            Mono<String> queued = blockingMono.cache();
+            queued.subscribe();
+
+            StepVerifier.create(blockingMono)
+                    .expectError(RejectedExecutionException.class)
+                    .verify();
+
+            release.countDown();
+            StepVerifier.create(queued).expectNext("done").verifyComplete();
+        } finally {
+            release.countDown();
+            scheduler.dispose();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpClientRegistryTest {
+
+    @Test
+    public void testGetHttpClient_SameSettings_ReturnsSameClient() {
+        final HttpClient first = HttpClientRegistry.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+        final HttpClient second = HttpClientRegistry.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testGetHttpClient_DifferentProtocol_ReturnsDifferentClient() {
+        final HttpClient http11 = HttpClientRegistry.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+        final HttpClient h2 = HttpClientRegistry.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2);
+        assertNotSame(http11, h2);
+    }
+
+    @Test
+    public void testGetHttpClient_DifferentCertificate_ReturnsDifferentClient() {
+        final HttpClient first =
+                HttpClientRegistry.getHttpClient(selfSignedConfiguration("Zmlyc3Q="), HttpProtocol.HTTP11);
+        final HttpClient second =
+                HttpClientRegistry.getHttpClient(selfSignedConfiguration("c2Vjb25k"), HttpProtocol.HTTP11);
+        final HttpClient firstAgain =
+                HttpClientRegistry.getHttpClient(selfSignedConfiguration("Zmlyc3Q="), HttpProtocol.HTTP11);
+        assertNotSame(first, second);
+        assertSame(first, firstAgain);
+    }
+
+    private DatasourceConfiguration selfSignedConfiguration(String base64Certificate) {
+        final SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(new UploadedFile("cert.pem", base64Certificate));
+
+        final Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+
+        final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+}
@@ -1336,4 +1336,110 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testFilterDataNew_comparedWithH2_returnsSameResults() throws IOException {
+        String data = "[\n" + "  {\n"
+                + "    \"id\": 1,\n"
+                + "    \"userName\": \"Michael Lawson\",\n"
+                + "    \"orderAmount\": \"4.99\",\n"
+                + "    \"isPaid\": \"true\",\n"
+                + "    \"date\": \"2021-09-01\",\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": \"\",\n"
+                + "    \"userName\": \"Lindsay Ferguson\",\n"
+                + "    \"orderAmount\": \"9.99\",\n"
+                + "    \"isPaid\": \"false\",\n"
+                + "    \"date\": \"2021-09-03\",\n"
+                + "    \"orderStatus\": \"\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 3,\n"
+                + "    \"userName\": \"Tobias Funke\",\n"
+                + "    \"orderAmount\": \"1,019.99\",\n"
+                + "    \"isPaid\": \"true\",\n"
+                + "    \"date\": \"2021-09-02\",\n"
+                + "    \"orderStatus\": \"NOT READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 4,\n"
+                + "    \"userName\": \"Byron Fields\",\n"
+                + "    \"orderAmount\": \"19.99\",\n"
+                + "    \"isPaid\": \"\",\n"
+                + "    \"date\": \"\",\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  }\n"
+                + "]";
+
+        String whereJson = "{\n" + "  \"where\": {\n"
+                + "    \"children\": [\n"
+                + "      {\n"
+                + "        \"key\": \"orderAmount\",\n"
+                + "        \"condition\": \"GT\",\n"
+                + "        \"value\": \"5\"\n"
+                + "      },\n"
+                + "      {\n"
+                + "        \"children\": [\n"
+                + "          {\n"
+                + "            \"key\": \"orderStatus\",\n"
+                + "            \"condition\": \"IN\",\n"
+                + "            \"value\": \"[\\\"READY\\\", \\\"SHIPPED\\\"]\"\n"
+                + "          },\n"
+                + "          {\n"
+                + "            \"key\": \"id\",\n"
+                + "            \"condition\": \"NOT_EQ\",\n"
+                + "            \"value\": \"3\"\n"
+                + "          },\n"
+                + "          {\n"
+                + "            \"key\": \"userName\",\n"
+                + "            \"condition\": \"CONTAINS\",\n"
+                + "            \"value\": \"Ferguson\"\n"
+                + "          }\n"
+                + "        ],\n"
+                + "        \"condition\": \"OR\"\n"
+                + "      }\n"
+                + "    ],\n"
+                + "    \"condition\": \"AND\"\n"
+                + "  }\n"
+                + "}";
+
+        List<Map<String, String>> sortBy =
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "date", SORT_BY_TYPE_KEY, VALUE_DESCENDING));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "2", PAGINATE_OFFSET_KEY, "0");
+        Map<DataType, DataType> dataTypeConversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+
+        List<List<Map<String, String>>> sortByOptions = List.of(List.of(), sortBy);
+        List<Map<String, String>> paginateByOptions = List.of(Map.of(), paginateBy);
+        List<Map<DataType, DataType>> dataTypeConversionMapOptions = new ArrayList<>();
+        dataTypeConversionMapOptions.add(null);
+        dataTypeConversionMapOptions.add(dataTypeConversionMap);
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+        Map<String, Object> unparsedWhereClause =
+                (Map<String, Object>) objectMapper.readValue(whereJson, HashMap.class).get("where");
+
+        for (List<Map<String, String>> sortByOption : sortByOptions) {
+            for (Map<String, String> paginateByOption : paginateByOptions) {
+                for (Map<DataType, DataType> conversionMapOption : dataTypeConversionMapOptions) {
+                    ArrayNode filteredData = filterDataService.filterDataNew(
+                            items,
+                            new UQIDataFilterParams(
+                                    parseWhereClause(unparsedWhereClause), null, sortByOption, paginateByOption),
+                            conversionMapOption);
+                    ArrayNode filteredDataWithH2 = filterDataService.filterDataWithH2(
+                            items,
+                            new UQIDataFilterParams(
+                                    parseWhereClause(unparsedWhereClause), null, sortByOption, paginateByOption),
+                            conversionMapOption);
+
+                    assertEquals(filteredDataWithH2, filteredData);
+                }
+            }
+        }
+    }
 }
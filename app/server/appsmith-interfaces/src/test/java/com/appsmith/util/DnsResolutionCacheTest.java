@@ -0,0 +1,71 @@
+package com.appsmith.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DnsResolutionCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+
+    private final AtomicInteger lookupCount = new AtomicInteger();
+
+    private DnsResolutionCache createCache(DnsResolutionCache.Lookup lookup) {
+        return new DnsResolutionCache(
+                host -> {
+                    lookupCount.incrementAndGet();
+                    return lookup.lookup(host);
+                },
+                Runnable::run,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(10),
+                now::get);
+    }
+
+    @Test
+    public void testResolveAll_withinTtl_returnsCachedAddresses() throws Exception {
+        final InetAddress address = InetAddress.getByAddress("example.com", new byte[] {93, (byte) 184, (byte) 216, 34});
+        final DnsResolutionCache cache = createCache(host -> new InetAddress[] {address});
+
+        assertEquals(List.of(address), cache.resolveAll("example.com").get());
+        now.addAndGet(29_000);
+        assertEquals(List.of(address), cache.resolveAll("example.com").get());
+        assertEquals(1, lookupCount.get());
+
+        now.addAndGet(2_000);
+        assertEquals(List.of(address), cache.resolveAll("example.com").get());
+        assertEquals(2, lookupCount.get());
+    }
+
+    @Test
+    public void testResolveAll_unknownHost_isCachedForNegativeTtl() {
+        final DnsResolutionCache cache = createCache(host -> {
+            throw new UnknownHostException(host);
+        });
+
+        assertUnknownHost(cache.resolveAll("does-not-exist.invalid"));
+        now.addAndGet(9_000);
+        assertUnknownHost(cache.resolveAll("does-not-exist.invalid"));
+        assertEquals(1, lookupCount.get());
+
+        now.addAndGet(2_000);
+        assertUnknownHost(cache.resolveAll("does-not-exist.invalid"));
+        assertEquals(2, lookupCount.get());
+    }
+
+    private void assertUnknownHost(CompletableFuture<List<InetAddress>> future) {
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(UnknownHostException.class, exception.getCause());
+    }
+}
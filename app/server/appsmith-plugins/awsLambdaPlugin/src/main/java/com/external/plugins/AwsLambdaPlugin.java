@@ -13,6 +13,7 @@ import com.amazonaws.services.lambda.model.ListFunctionsResult;
 import com.amazonaws.services.lambda.model.ResourceNotFoundException;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
@@ -29,7 +30,7 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -54,6 +55,8 @@ public class AwsLambdaPlugin extends BasePlugin {
     @Extension
     public static class AwsLambdaPluginExecutor implements PluginExecutor<AWSLambda> {
 
+        private final Scheduler scheduler = PluginSchedulers.get("awslambda");
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 AWSLambda connection,
@@ -84,7 +87,7 @@ public class AwsLambdaPlugin extends BasePlugin {
                             Exception.class,
                             e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()))
                     .map(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
 
         @Override
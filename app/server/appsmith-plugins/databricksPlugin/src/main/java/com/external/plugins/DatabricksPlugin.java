@@ -3,6 +3,8 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.BearerTokenAuth;
@@ -16,7 +18,7 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -73,6 +75,8 @@ public class DatabricksPlugin extends BasePlugin {
     @Extension
     public static class DatabricksPluginExecutor implements PluginExecutor<Connection> {
 
+        private final Scheduler scheduler = PluginSchedulers.get("databricks");
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 Connection connection,
@@ -83,6 +87,7 @@ public class DatabricksPlugin extends BasePlugin {
 
             List<Map<String, Object>> rowsList = new ArrayList<>(INITIAL_ROWLIST_CAPACITY);
             final List<String> columnsList = new ArrayList<>();
+            final JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
 
             return (Mono<ActionExecutionResult>) Mono.fromCallable(() -> {
                         try {
@@ -114,7 +119,8 @@ public class DatabricksPlugin extends BasePlugin {
                         try {
 
                             // We can proceed since the connection is valid.
-                            Statement statement = connection.createStatement();
+                            Statement statement = statementCanceller.register(
+                                    connection.createStatement(), actionConfiguration.getTimeoutInMillisecond());
                             boolean hasResultSet = statement.execute(query);
 
                             if (!hasResultSet) {
@@ -167,13 +173,17 @@ public class DatabricksPlugin extends BasePlugin {
                                     QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage(),
                                     "SQLSTATE: " + sqlState));
+                        } finally {
+                            statementCanceller.release();
                         }
 
                         result.setBody(objectMapper.valueToTree(rowsList));
                         return Mono.just(result);
                     })
+                    // Stop the query on the database, if the execution is cancelled or times out while it runs
+                    .doOnCancel(statementCanceller::cancel)
                     .flatMap(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
 
         @Override
@@ -287,7 +297,7 @@ public class DatabricksPlugin extends BasePlugin {
                         return Mono.just(connection);
                     })
                     .flatMap(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
 
         @Override
@@ -358,7 +368,7 @@ public class DatabricksPlugin extends BasePlugin {
                         }
                     })
                     .map(resultStructure -> (DatasourceStructure) resultStructure)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
     }
 }
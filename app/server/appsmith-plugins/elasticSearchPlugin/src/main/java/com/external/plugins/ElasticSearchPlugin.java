@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -9,11 +10,15 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.ExecuteActionDTO;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.ElasticSearchErrorMessages;
 import com.external.plugins.exceptions.ElasticSearchPluginError;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -27,8 +32,10 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.pf4j.Extension;
@@ -37,9 +44,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -66,7 +73,7 @@ public class ElasticSearchPlugin extends BasePlugin {
     @Extension
     public static class ElasticSearchPluginExecutor implements PluginExecutor<RestClient> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("elasticsearch");
 
         private static final Pattern patternForUnauthorized =
                 Pattern.compile(".*unauthorized.*", Pattern.CASE_INSENSITIVE);
@@ -74,20 +81,33 @@ public class ElasticSearchPlugin extends BasePlugin {
         private static final Pattern patternForNotFound =
                 Pattern.compile(".*not.?found|refused|not.?known|timed?\\s?out.*", Pattern.CASE_INSENSITIVE);
 
+        @Override
+        public Mono<ActionExecutionResult> executeParameterized(
+                RestClient client,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            return executeCommon(client, actionConfiguration, executeActionDTO.getPaginationField());
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 RestClient client,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
+            return executeCommon(client, actionConfiguration, null);
+        }
+
+        private Mono<ActionExecutionResult> executeCommon(
+                RestClient client, ActionConfiguration actionConfiguration, PaginationField paginationField) {
 
             final Map<String, Object> requestData = new HashMap<>();
 
             String query = actionConfiguration.getBody();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
-            return Mono.fromCallable(() -> {
-                        final ActionExecutionResult result = new ActionExecutionResult();
-
+            return Mono.defer(() -> {
                         String body = query;
 
                         final String path = actionConfiguration.getPath();
@@ -126,33 +146,48 @@ public class ElasticSearchPlugin extends BasePlugin {
                                 }
                                 body = ndJsonBuilder.toString();
                             }
+                        } else if (PaginationField.NEXT.equals(paginationField)
+                                && !isBlank(actionConfiguration.getNext())) {
+                            requestData.put("searchAfter", actionConfiguration.getNext());
+                            try {
+                                body = addSearchAfter(body, actionConfiguration.getNext());
+                            } catch (IOException | IllegalArgumentException e) {
+                                return Mono.error(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                        ElasticSearchErrorMessages.INVALID_SEARCH_AFTER_ERROR_MSG,
+                                        e.getMessage()));
+                            }
                         }
 
                         if (body != null) {
                             request.setEntity(new NStringEntity(body, contentType));
                         }
 
-                        try {
-                            final String responseBody = new String(client.performRequest(request)
-                                    .getEntity()
-                                    .getContent()
-                                    .readAllBytes());
-                            result.setBody(objectMapper.readValue(responseBody, HashMap.class));
+                        return performRequest(client, request);
+                    })
+                    // The response arrives on an I/O thread of the client, which must not be held up by parsing it
+                    .publishOn(scheduler)
+                    .<ActionExecutionResult>handle((response, sink) -> {
+                        final ActionExecutionResult result = new ActionExecutionResult();
+                        // Parsed straight from the response stream, without first reading it into a string
+                        try (InputStream content = response.getEntity().getContent()) {
+                            result.setBody(objectMapper.readValue(content, HashMap.class));
                         } catch (IOException e) {
-                            final String message = "Error performing request: " + e.getMessage();
-                            log.warn(message, e);
-                            return Mono.error(new AppsmithPluginException(
-                                    ElasticSearchPluginError.QUERY_EXECUTION_FAILED,
-                                    ElasticSearchErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            sink.error(e);
+                            return;
                         }
 
                         result.setIsExecutionSuccess(true);
                         log.debug("In the Elastic Search Plugin, got action execution result");
-                        return Mono.just(result);
+                        sink.next(result);
+                    })
+                    .onErrorMap(IOException.class, e -> {
+                        log.warn("Error performing request: " + e.getMessage(), e);
+                        return new AppsmithPluginException(
+                                ElasticSearchPluginError.QUERY_EXECUTION_FAILED,
+                                ElasticSearchErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                e.getMessage());
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -173,8 +208,54 @@ public class ElasticSearchPlugin extends BasePlugin {
                         request.setRequestParams(requestParams);
                         result.setRequest(request);
                         return result;
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        /**
+         * Sends the request without holding a thread while it is in flight. Cancelling the returned Mono aborts the
+         * request.
+         */
+        private static Mono<Response> performRequest(RestClient client, Request request) {
+            return Mono.create(sink -> {
+                final Cancellable cancellable = client.performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        sink.success(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        sink.error(exception);
+                    }
+                });
+                sink.onCancel(cancellable::cancel);
+            });
+        }
+
+        /**
+         * Sets the sort values of the last hit of the previous page as the `search_after` of the given search body, so
+         * that the next page is fetched without a deep `from` offset. Any `from` in the body is removed, since
+         * Elasticsearch doesn't allow it along with `search_after`. To keep the pages consistent while the index
+         * changes, the body can also open a point in time with `pit`.
+         *
+         * @param body        the search body, may be blank
+         * @param searchAfter the JSON array of the sort values of the last hit of the previous page
+         * @return the search body with `search_after` set
+         */
+        static String addSearchAfter(String body, String searchAfter) throws IOException {
+            final JsonNode searchAfterNode = objectMapper.readTree(searchAfter);
+            if (searchAfterNode == null || !searchAfterNode.isArray()) {
+                throw new IllegalArgumentException("Expected a JSON array of sort values, but got: " + searchAfter);
+            }
+
+            final JsonNode bodyNode = isBlank(body) ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+            if (!(bodyNode instanceof ObjectNode searchBody)) {
+                throw new IllegalArgumentException("Pagination is only supported for a search body that is an object");
+            }
+
+            searchBody.remove("from");
+            searchBody.set("search_after", searchAfterNode);
+            return objectMapper.writeValueAsString(searchBody);
         }
 
         private static boolean isBulkQuery(String path) {
@@ -11,6 +11,10 @@ public class ElasticSearchErrorMessages extends BasePluginErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Error occurred while executing Elasticsearch query.";
 
+    public static final String INVALID_SEARCH_AFTER_ERROR_MSG =
+            "Search after should be the JSON array of sort values of the last hit of the previous page, and the body "
+                    + "should be a JSON object.";
+
     public static final String NOT_FOUND_ERROR_MSG =
             "Either your host URL is invalid or the page you are trying to access does not exist";
 
@@ -6,6 +6,8 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.ExecuteActionDTO;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.exceptions.ElasticSearchPluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +45,7 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Slf4j
@@ -279,6 +282,53 @@ public class ElasticSearchPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testSearchWithSearchAfter_WhenNextPageIsRequested_ReturnsTheHitsAfterTheGivenSortValues() {
+        final Mono<ActionExecutionResult> indexMono = execute(
+                        HttpMethod.PUT, "/moons/_doc/1?refresh=true", "{\"name\": \"Io\"}")
+                .then(execute(HttpMethod.PUT, "/moons/_doc/2?refresh=true", "{\"name\": \"Europa\"}"))
+                .then(execute(HttpMethod.PUT, "/moons/_doc/3?refresh=true", "{\"name\": \"Ganymede\"}"));
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.POST);
+        actionConfiguration.setPath("/moons/_search");
+        actionConfiguration.setBody("{\"size\": 1, \"from\": 0, \"sort\": [{\"name.keyword\": \"asc\"}]}");
+        actionConfiguration.setNext("[\"Europa\"]");
+        final ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPaginationField(PaginationField.NEXT);
+
+        final Mono<ActionExecutionResult> resultMono = indexMono
+                .then(pluginExecutor.datasourceCreate(dsConfig))
+                .flatMap(conn ->
+                        pluginExecutor.executeParameterized(conn, executeActionDTO, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final Map<String, Map<String, List<Map<String, Map<String, Object>>>>> resultBody =
+                            (Map) result.getBody();
+                    final List<Map<String, Map<String, Object>>> hits = resultBody.get("hits").get("hits");
+                    assertEquals(1, hits.size());
+                    assertEquals("Ganymede", hits.get(0).get("_source").get("name"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAddSearchAfter_WhenBodyHasFrom_ReplacesItWithSearchAfter() throws IOException {
+        final String body = ElasticSearchPlugin.ElasticSearchPluginExecutor.addSearchAfter(
+                "{\"from\": 100, \"size\": 10}", "[1686000000000, \"doc-42\"]");
+
+        assertEquals("{\"size\":10,\"search_after\":[1686000000000,\"doc-42\"]}", body);
+    }
+
+    @Test
+    public void testAddSearchAfter_WhenSearchAfterIsNotAnArray_Fails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ElasticSearchPlugin.ElasticSearchPluginExecutor.addSearchAfter("{}", "{\"id\": 1}"));
+    }
+
     @Test
     public void itShouldValidateDatasourceWithNoEndpoints() {
         DatasourceConfiguration invalidDatasourceConfiguration = new DatasourceConfiguration();
@@ -11,6 +11,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -23,6 +24,8 @@ import com.appsmith.external.models.DatasourceStructure.Template;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Property;
@@ -34,6 +37,8 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.BsonToJsonNodeConverter;
+import com.external.plugins.utils.MongoCursorRegistry;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -47,6 +52,7 @@ import com.mongodb.MongoTimeoutException;
 import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -62,8 +68,7 @@ import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.bson.types.Decimal128;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -72,13 +77,11 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -90,6 +93,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -113,6 +117,7 @@ import static com.external.plugins.constants.FieldName.FIND_SORT;
 import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
 import static com.external.plugins.constants.FieldName.NATIVE_QUERY_PATH_DATA;
 import static com.external.plugins.constants.FieldName.NATIVE_QUERY_PATH_STATUS;
+import static com.external.plugins.constants.FieldName.NEXT_CURSOR;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
@@ -155,6 +160,12 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String CURSOR = "cursor";
+
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
@@ -215,6 +226,14 @@ public class MongoPlugin extends BasePlugin {
 
     private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
 
+    /*
+     * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
+     * processing of DbRef Object.
+     * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+     */
+    private static final BsonToJsonNodeConverter bsonToJsonNodeConverter = new BsonToJsonNodeConverter(
+            objectMapper, new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP));
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -223,7 +242,10 @@ public class MongoPlugin extends BasePlugin {
     @Extension
     public static class MongoPluginExecutor implements PluginExecutor<MongoClient>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("mongo");
+
+        private static final MongoCursorRegistry cursorRegistry = new MongoCursorRegistry(
+                MongoCursorRegistry.DEFAULT_IDLE_TIMEOUT, System::currentTimeMillis, MongoPluginExecutor::killCursor);
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -285,7 +307,20 @@ public class MongoPlugin extends BasePlugin {
 
             actionConfiguration.setFormData(formData);
 
-            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
+            return this.executeCommon(
+                    mongoClient,
+                    datasourceConfiguration,
+                    actionConfiguration,
+                    parameters,
+                    executeActionDTO.getPaginationField());
+        }
+
+        public Mono<ActionExecutionResult> executeCommon(
+                MongoClient mongoClient,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                List<Map.Entry<String, String>> parameters) {
+            return executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters, null);
         }
 
         /**
@@ -296,13 +331,17 @@ public class MongoPlugin extends BasePlugin {
          *                                to the parameters in Datasource Configuration
          * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
          * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+         * @param paginationField         : With cursor pagination, NEXT fetches the next page of the cursor whose token
+         *                                is set at `formData.nextCursor`. Server side cursors only move forward, so
+         *                                anything else runs the query again from its first page.
          * @return Result data from executing the action's query.
          */
         public Mono<ActionExecutionResult> executeCommon(
                 MongoClient mongoClient,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
-                List<Map.Entry<String, String>> parameters) {
+                List<Map.Entry<String, String>> parameters,
+                PaginationField paginationField) {
 
             if (mongoClient == null) {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
@@ -312,15 +351,47 @@ public class MongoPlugin extends BasePlugin {
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
-            try {
-                MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
-                final Map<String, Object> formData = actionConfiguration.getFormData();
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+            final boolean isCursorPagination = PaginationType.CURSOR.equals(actionConfiguration.getPaginationType());
+            final String cursorToken = isCursorPagination && PaginationField.NEXT.equals(paginationField)
+                    ? getDataValueSafelyFromFormData(formData, NEXT_CURSOR, STRING_TYPE)
+                    : null;
+
+            MongoCursorRegistry.CursorEntry resumedCursor = null;
+            if (!isBlank(cursorToken)) {
+                resumedCursor = cursorRegistry.resume(cursorToken, mongoClient).orElse(null);
+                if (resumedCursor == null) {
+                    return Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            MongoPluginErrorMessages.CURSOR_NOT_FOUND_ERROR_MSG));
+                }
+            }
 
-                query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
-                Bson command = Document.parse(query);
+            // The session that a paginated query is run in, until the cursor it opens is handed to the registry
+            final AtomicReference<ClientSession> cursorSession = new AtomicReference<>();
+            try {
+                if (resumedCursor != null) {
+                    final MongoDatabase database = mongoClient.getDatabase(resumedCursor.databaseName());
+                    final Document getMoreCommand = new Document("getMore", resumedCursor.cursorId())
+                            .append("collection", resumedCursor.collectionName())
+                            .append("batchSize", resumedCursor.batchSize());
+                    query = getMoreCommand.toJson();
+                    // A cursor can only be resumed in the session that opened it. A cursor that failed to return its
+                    // next page, for instance one killed on the server, is done.
+                    mongoOutputMono = Mono.from(database.runCommand(resumedCursor.session(), getMoreCommand))
+                            .doOnError(error -> cursorRegistry.remove(cursorToken));
+                } else {
+                    final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                    query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
+                    final Bson command = Document.parse(query);
+                    mongoOutputMono = isCursorPagination
+                            ? Mono.from(mongoClient.startSession())
+                                    .doOnNext(cursorSession::set)
+                                    .flatMap(session -> Mono.from(database.runCommand(session, command)))
+                            : Mono.from(database.runCommand(command));
+                }
 
-                mongoOutputMono = Mono.from(database.runCommand(command));
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -329,6 +400,7 @@ public class MongoPlugin extends BasePlugin {
                         error));
             }
 
+            final String resumedCursorToken = resumedCursor == null ? null : cursorToken;
             Instant requestedAt = Instant.now();
             return mongoOutputMono
                     .onErrorMap(
@@ -353,19 +425,9 @@ public class MongoPlugin extends BasePlugin {
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(mongoOutput -> {
                         try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
+                            // The output contains the key "ok". This is the status of the command
+                            BigInteger status = getBigInteger(mongoOutput, "ok");
+                            ArrayNode headerArray = objectMapper.createArrayNode();
 
                             if (BigInteger.ONE.equals(status)) {
                                 result.setIsExecutionSuccess(true);
@@ -378,58 +440,73 @@ public class MongoPlugin extends BasePlugin {
                                  we either get the modified new value or the pre-modified old value (depending on the
                                  `new` field in the command. Let's return that value to the user.
                                 */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
+                                if (mongoOutput.containsKey(VALUE)) {
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(VALUE, bsonToJsonNodeConverter.toJsonNode(mongoOutput.get(VALUE)));
+                                    result.setBody(body);
                                 }
 
                                 /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
+                                 The output contains key "cursor" when find command was issued and there are 1 or more
+                                 results. In case there are no results for find, this key is not present in the output.
+                                 A getMore on a resumed cursor returns the page in "nextBatch" instead of "firstBatch".
                                 */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
+                                if (mongoOutput.containsKey(CURSOR)) {
+                                    Document cursor = mongoOutput.get(CURSOR, Document.class);
+                                    Object batch = cursor.containsKey(NEXT_BATCH)
+                                            ? cursor.get(NEXT_BATCH)
+                                            : cursor.get(FIRST_BATCH);
+                                    result.setBody(bsonToJsonNodeConverter.toJsonNode(batch));
+
+                                    if (isCursorPagination) {
+                                        headerArray.add(objectMapper
+                                                .createObjectNode()
+                                                .put(
+                                                        NEXT_CURSOR,
+                                                        trackCursor(
+                                                                mongoClient,
+                                                                cursor,
+                                                                batch,
+                                                                resumedCursorToken,
+                                                                cursorSession)));
+                                    }
                                 }
 
                                 /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
+                                 The output contains key "n" when insert/update command is issued. "n" for update
                                  signifies the no of documents selected for update. "n" in case of insert signifies the
                                  number of documents inserted.
                                 */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey("n")) {
+                                    ObjectNode body =
+                                            objectMapper.createObjectNode().put("n", getBigInteger(mongoOutput, "n"));
+                                    result.setBody(body);
+                                    headerArray.add(body);
                                 }
 
                                 /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
+                                 The output contains key "nModified" in case of update command. This signifies the no of
                                  documents updated.
                                 */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey(N_MODIFIED)) {
+                                    ObjectNode body = objectMapper
+                                            .createObjectNode()
+                                            .put(N_MODIFIED, getBigInteger(mongoOutput, N_MODIFIED));
+                                    result.setBody(body);
+                                    headerArray.add(body);
                                 }
 
                                 /*
-                                 The json contains key "values" when distinct command is used.
+                                 The output contains key "values" when distinct command is used.
                                 */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
+                                if (mongoOutput.containsKey(VALUES)) {
                                     ObjectNode resultNode = objectMapper.createObjectNode();
 
                                     // Create a JSON structure with the results stored with a key to abide by the
                                     // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                                    resultNode.set(VALUES, bsonToJsonNodeConverter.toJsonNode(mongoOutput.get(VALUES)));
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
+                                    result.setBody(resultNode);
                                 }
 
                                 /*
@@ -438,9 +515,8 @@ public class MongoPlugin extends BasePlugin {
                                  */
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
+                            headerArray.add(objectMapper.createObjectNode().put("ok", status));
+                            result.setHeaders(headerArray);
                         } catch (JsonProcessingException e) {
                             return Mono.error(new AppsmithPluginException(
                                     MongoPluginError.QUERY_EXECUTION_FAILED,
@@ -481,6 +557,9 @@ public class MongoPlugin extends BasePlugin {
                         actionExecutionResult.setRequest(request);
                         return actionExecutionResult;
                     })
+                    // The session is left open only if the registry took over a cursor opened in it
+                    .doFinally(signalType -> Optional.ofNullable(cursorSession.getAndSet(null))
+                            .ifPresent(ClientSession::close))
                     .subscribeOn(scheduler);
         }
 
@@ -736,9 +815,59 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Keeps the cursor of a paginated query open for the next page, and returns the token to fetch that page with.
+         * A newly opened cursor is registered along with the session it was opened in. Returns null once the cursor is
+         * exhausted.
+         */
+        private String trackCursor(
+                MongoClient mongoClient,
+                Document cursor,
+                Object batch,
+                String resumedCursorToken,
+                AtomicReference<ClientSession> cursorSession) {
+            final Object cursorId = cursor.get("id");
+            if (!(cursorId instanceof Number) || ((Number) cursorId).longValue() == 0) {
+                if (resumedCursorToken != null) {
+                    cursorRegistry.remove(resumedCursorToken);
+                }
+                return null;
+            }
+
+            if (resumedCursorToken != null) {
+                return resumedCursorToken;
+            }
+
+            // The namespace is of the form `<database>.<collection>`, and collection names may contain dots.
+            final String namespace = cursor.getString("ns");
+            final int separatorIndex = namespace.indexOf('.');
+            final int batchSize = batch instanceof Collection<?> ? ((Collection<?>) batch).size() : 0;
+            return cursorRegistry.register(
+                    mongoClient,
+                    cursorSession.getAndSet(null),
+                    namespace.substring(0, separatorIndex),
+                    namespace.substring(separatorIndex + 1),
+                    ((Number) cursorId).longValue(),
+                    Math.max(batchSize, 1));
+        }
+
+        private static void killCursor(MongoCursorRegistry.CursorEntry cursorEntry) {
+            Document killCursorsCommand = new Document("killCursors", cursorEntry.collectionName())
+                    .append("cursors", List.of(cursorEntry.cursorId()));
+            Mono.from(cursorEntry
+                            .mongoClient()
+                            .getDatabase(cursorEntry.databaseName())
+                            .runCommand(cursorEntry.session(), killCursorsCommand))
+                    .doFinally(signalType -> cursorEntry.session().close())
+                    .subscribe(
+                            output -> {},
+                            error -> log.debug("Failed to kill expired cursor {}", cursorEntry.cursorId(), error));
+        }
+
         @Override
         public void datasourceDestroy(MongoClient mongoClient) {
             if (mongoClient != null) {
+                cursorRegistry.removeAll(mongoClient);
                 mongoClient.close();
             }
         }
@@ -1056,53 +1185,16 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
+    private static BigInteger getBigInteger(Document document, String key) {
+        Object value = document.get(key);
+        if (value instanceof BigDecimal decimalValue) {
+            return decimalValue.toBigInteger();
+        } else if (value instanceof Decimal128 decimalValue) {
+            return decimalValue.bigDecimalValue().toBigInteger();
+        } else if (value instanceof Number numberValue) {
+            return BigInteger.valueOf(numberValue.longValue());
         }
 
-        return object;
+        return null;
     }
 }
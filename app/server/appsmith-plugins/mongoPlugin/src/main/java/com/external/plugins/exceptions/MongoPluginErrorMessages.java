@@ -43,6 +43,9 @@ public class MongoPluginErrorMessages {
 
     public static final String MONGO_CLIENT_NULL_ERROR_MSG = "Mongo client object is null.";
 
+    public static final String CURSOR_NOT_FOUND_ERROR_MSG =
+            "The cursor for the next page has expired or is no longer available. Please run the query again.";
+
     /*
     ************************************************************************************************************************************************
                                        Error messages related to validation of datasource.
@@ -0,0 +1,155 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Converts the values of a MongoDB command output {@link Document} into a Jackson tree, in a single pass.
+ *
+ * The normalisation matches what the plugin has always sent back to the client: ObjectIds become their hex string,
+ * dates become ISO-8601 instants, 64-bit integers and decimals become plain JSON numbers and DBRefs become
+ * `{"$ref": ..., "$id": ..., "$db": ...}` objects. Values that have no such mapping (binary data, timestamps, regular
+ * expressions and the like) are written as MongoDB relaxed extended JSON, through the given codec.
+ */
+public class BsonToJsonNodeConverter {
+
+    private static final String FALLBACK_KEY = "value";
+
+    private final ObjectMapper objectMapper;
+
+    private final DocumentCodec documentCodec;
+
+    public BsonToJsonNodeConverter(ObjectMapper objectMapper, DocumentCodec documentCodec) {
+        this.objectMapper = objectMapper;
+        this.documentCodec = documentCodec;
+    }
+
+    public JsonNode toJsonNode(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return NullNode.getInstance();
+        } else if (value instanceof String stringValue) {
+            return TextNode.valueOf(stringValue);
+        } else if (value instanceof Boolean booleanValue) {
+            return BooleanNode.valueOf(booleanValue);
+        } else if (value instanceof Integer intValue) {
+            return IntNode.valueOf(intValue);
+        } else if (value instanceof Long longValue) {
+            return LongNode.valueOf(longValue);
+        } else if (value instanceof Double doubleValue) {
+            if (doubleValue.isNaN() || doubleValue.isInfinite()) {
+                // JSON has no representation for these, keep the extended JSON form the driver writes.
+                return objectMapper.createObjectNode().put("$numberDouble", String.valueOf(doubleValue));
+            }
+            return DoubleNode.valueOf(doubleValue);
+        } else if (value instanceof Decimal128 decimalValue) {
+            if (decimalValue.isNaN() || decimalValue.isInfinite()) {
+                return objectMapper.createObjectNode().put("$numberDecimal", decimalValue.toString());
+            }
+            return DecimalNode.valueOf(new BigDecimal(decimalValue.toString()));
+        } else if (value instanceof ObjectId objectId) {
+            return TextNode.valueOf(objectId.toHexString());
+        } else if (value instanceof Date date) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(date.getTime())));
+        } else if (value instanceof DBRef dbRef) {
+            final ObjectNode node = objectMapper.createObjectNode();
+            node.put("$ref", dbRef.getCollectionName());
+            node.set("$id", toJsonNode(dbRef.getId()));
+            if (dbRef.getDatabaseName() != null) {
+                node.put("$db", dbRef.getDatabaseName());
+            }
+            return node;
+        } else if (value instanceof Map<?, ?> mapValue) {
+            final ObjectNode node = objectMapper.createObjectNode();
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                node.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+            }
+            return node;
+        } else if (value instanceof Iterable<?> iterableValue) {
+            final ArrayNode node = objectMapper.createArrayNode();
+            for (Object item : iterableValue) {
+                node.add(toJsonNode(item));
+            }
+            return node;
+        }
+
+        return toJsonNodeViaExtendedJson(value);
+    }
+
+    private JsonNode toJsonNodeViaExtendedJson(Object value) throws JsonProcessingException {
+        final String json = new Document(FALLBACK_KEY, value).toJson(documentCodec);
+        return normalizeExtendedJson(objectMapper.readTree(json).get(FALLBACK_KEY));
+    }
+
+    /**
+     * Applies the same normalisation as {@link #toJsonNode(Object)} to values that have already been written as
+     * extended JSON, for the single key wrappers that can show up nested inside such values.
+     */
+    private JsonNode normalizeExtendedJson(JsonNode node) {
+        if (node.isArray()) {
+            final ArrayNode arrayNode = (ArrayNode) node;
+            for (int i = 0; i < arrayNode.size(); i++) {
+                arrayNode.set(i, normalizeExtendedJson(arrayNode.get(i)));
+            }
+            return arrayNode;
+        } else if (!node.isObject()) {
+            return node;
+        }
+
+        final ObjectNode objectNode = (ObjectNode) node;
+        if (objectNode.size() == 1) {
+            final String key = objectNode.fieldNames().next();
+            final JsonNode wrapped = objectNode.get(key);
+            switch (key) {
+                case "$numberLong":
+                    return BigIntegerNode.valueOf(new BigDecimal(wrapped.asText()).toBigInteger());
+                case "$oid":
+                    return TextNode.valueOf(wrapped.asText());
+                case "$date":
+                    if (wrapped.isObject() && wrapped.has("$numberLong")) {
+                        return TextNode.valueOf(DateTimeFormatter.ISO_INSTANT.format(
+                                Instant.ofEpochMilli(wrapped.get("$numberLong").asLong())));
+                    }
+                    return TextNode.valueOf(DateTimeFormatter.ISO_INSTANT.format(Instant.parse(wrapped.asText())));
+                case "$numberDecimal":
+                    try {
+                        return DecimalNode.valueOf(new BigDecimal(wrapped.asText()));
+                    } catch (NumberFormatException e) {
+                        // NaN and infinities stay wrapped.
+                        return objectNode;
+                    }
+                default:
+                    break;
+            }
+        }
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            field.setValue(normalizeExtendedJson(field.getValue()));
+        }
+        return objectNode;
+    }
+}
@@ -0,0 +1,180 @@
+package com.external.plugins.utils;
+
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps track of the server side cursors that are left open between executions of a paginated query, so that the next
+ * page can be fetched with a `getMore` on the same cursor instead of re-running the query with a larger `skip`.
+ *
+ * Cursors are handed out to the client as opaque random tokens. A cursor belongs to the {@link MongoClient} of the
+ * datasource context that opened it, and is only ever resumed on that same client. MongoDB binds a cursor to the session
+ * that created it, so every cursor is registered along with the {@link ClientSession} it was opened in, and that session
+ * has to be used for every command on the cursor. The registry owns the session from then on and closes it when the
+ * cursor is removed. Cursors that are not resumed within the idle timeout are dropped and handed to the expiry callback,
+ * which is expected to kill them on the server and then close their session. All cursors of a client are dropped when
+ * its datasource context is destroyed.
+ */
+@Slf4j
+public class MongoCursorRegistry {
+
+    /**
+     * Kept well below the ten minute default after which MongoDB itself reaps idle cursors.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final int MAX_OPEN_CURSORS = 1000;
+
+    public record CursorEntry(
+            MongoClient mongoClient,
+            ClientSession session,
+            String databaseName,
+            String collectionName,
+            long cursorId,
+            int batchSize,
+            long expiresAt) {}
+
+    private final Map<String, CursorEntry> cursors = new ConcurrentHashMap<>();
+
+    private final long idleTimeoutMillis;
+
+    private final LongSupplier clock;
+
+    private final Consumer<CursorEntry> onExpiry;
+
+    public MongoCursorRegistry(Duration idleTimeout, LongSupplier clock, Consumer<CursorEntry> onExpiry) {
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.clock = clock;
+        this.onExpiry = onExpiry;
+    }
+
+    /**
+     * Registers an open cursor and returns the token to resume it with.
+     */
+    public String register(
+            MongoClient mongoClient,
+            ClientSession session,
+            String databaseName,
+            String collectionName,
+            long cursorId,
+            int batchSize) {
+        evictExpired();
+        if (cursors.size() >= MAX_OPEN_CURSORS) {
+            evictOldest();
+        }
+
+        final String token = UUID.randomUUID().toString();
+        cursors.put(
+                token,
+                new CursorEntry(
+                        mongoClient,
+                        session,
+                        databaseName,
+                        collectionName,
+                        cursorId,
+                        batchSize,
+                        clock.getAsLong() + idleTimeoutMillis));
+        return token;
+    }
+
+    /**
+     * Returns the cursor registered under the token, if it is still open and was opened on the given client, and
+     * pushes out its expiry.
+     */
+    public Optional<CursorEntry> resume(String token, MongoClient mongoClient) {
+        evictExpired();
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        final CursorEntry resumed = cursors.computeIfPresent(
+                token,
+                (key, entry) -> entry.mongoClient() == mongoClient
+                        ? new CursorEntry(
+                                entry.mongoClient(),
+                                entry.session(),
+                                entry.databaseName(),
+                                entry.collectionName(),
+                                entry.cursorId(),
+                                entry.batchSize(),
+                                clock.getAsLong() + idleTimeoutMillis)
+                        : entry);
+
+        return resumed != null && resumed.mongoClient() == mongoClient ? Optional.of(resumed) : Optional.empty();
+    }
+
+    /**
+     * Forgets a cursor that has been exhausted on the server, and closes its session.
+     */
+    public void remove(String token) {
+        final CursorEntry entry = cursors.remove(token);
+        if (entry != null) {
+            closeSession(entry);
+        }
+    }
+
+    /**
+     * Forgets all cursors of a client that is being closed, and closes their sessions. The server releases the cursors
+     * along with the connection.
+     */
+    public void removeAll(MongoClient mongoClient) {
+        final Iterator<CursorEntry> iterator = cursors.values().iterator();
+        while (iterator.hasNext()) {
+            final CursorEntry entry = iterator.next();
+            if (entry.mongoClient() == mongoClient) {
+                iterator.remove();
+                closeSession(entry);
+            }
+        }
+    }
+
+    int size() {
+        return cursors.size();
+    }
+
+    private void evictExpired() {
+        final long now = clock.getAsLong();
+        final Iterator<Map.Entry<String, CursorEntry>> iterator = cursors.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, CursorEntry> entry = iterator.next();
+            if (entry.getValue().expiresAt() <= now && cursors.remove(entry.getKey(), entry.getValue())) {
+                expire(entry.getValue());
+            }
+        }
+    }
+
+    private void evictOldest() {
+        cursors.entrySet().stream()
+                .min(Map.Entry.comparingByValue(Comparator.comparingLong(CursorEntry::expiresAt)))
+                .filter(entry -> cursors.remove(entry.getKey(), entry.getValue()))
+                .ifPresent(entry -> expire(entry.getValue()));
+    }
+
+    private void expire(CursorEntry entry) {
+        try {
+            onExpiry.accept(entry);
+        } catch (Exception e) {
+            log.debug("Failed to release expired cursor {}", entry.cursorId(), e);
+            closeSession(entry);
+        }
+    }
+
+    private static void closeSession(CursorEntry entry) {
+        try {
+            entry.session().close();
+        } catch (Exception e) {
+            log.debug("Failed to close the session of cursor {}", entry.cursorId(), e);
+        }
+    }
+}
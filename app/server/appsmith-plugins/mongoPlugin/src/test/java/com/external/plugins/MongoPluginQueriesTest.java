@@ -9,6 +9,8 @@ import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
@@ -51,6 +53,7 @@ import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
 import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
+import static com.external.plugins.constants.FieldName.NEXT_CURSOR;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
@@ -776,4 +779,60 @@ public class MongoPluginQueriesTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testCursorPagination_nextPageIsFetchedFromOpenCursor() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPaginationType(PaginationType.CURSOR);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"users\", sort: { age: 1 }, batchSize: 1 }");
+        actionConfiguration.setFormData(configMap);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        MongoClient mongoClient = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionExecutionResult firstPage = (ActionExecutionResult) pluginExecutor
+                .executeParameterized(mongoClient, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                .block();
+
+        assertNotNull(firstPage);
+        assertTrue(firstPage.getIsExecutionSuccess());
+        assertEquals(1, ((ArrayNode) firstPage.getBody()).size());
+        assertEquals(
+                "Cierra Vega",
+                ((ArrayNode) firstPage.getBody()).get(0).get("name").asText());
+        String cursorToken = getNextCursor(firstPage);
+        assertNotNull(cursorToken);
+
+        // The next page is read with a getMore on the cursor that the first page was read from
+        setDataValueSafelyInFormData(configMap, NEXT_CURSOR, cursorToken);
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPaginationField(PaginationField.NEXT);
+        ActionExecutionResult secondPage = (ActionExecutionResult) pluginExecutor
+                .executeParameterized(mongoClient, executeActionDTO, dsConfig, actionConfiguration)
+                .block();
+
+        assertNotNull(secondPage);
+        assertTrue(secondPage.getIsExecutionSuccess());
+        assertEquals(1, ((ArrayNode) secondPage.getBody()).size());
+        assertEquals(
+                "Alden Cantrell",
+                ((ArrayNode) secondPage.getBody()).get(0).get("name").asText());
+        assertTrue(secondPage.getRequest().getQuery().contains("getMore"));
+        assertEquals(cursorToken, getNextCursor(secondPage));
+
+        pluginExecutor.datasourceDestroy(mongoClient);
+    }
+
+    private static String getNextCursor(ActionExecutionResult result) {
+        for (JsonNode header : (ArrayNode) result.getHeaders()) {
+            if (header.has(NEXT_CURSOR)) {
+                return header.get(NEXT_CURSOR).isNull() ? null : header.get(NEXT_CURSOR).asText();
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,72 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.DBRef;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonToJsonNodeConverterTest {
+
+    private final BsonToJsonNodeConverter converter =
+            new BsonToJsonNodeConverter(new ObjectMapper(), new DocumentCodec());
+
+    @Test
+    public void testToJsonNode_normalisesMongoTypes() throws Exception {
+        final ObjectId objectId = new ObjectId("5f1ed2b1c8f44a3d9c4f2a10");
+        final Document document = new Document("_id", objectId)
+                .append("name", "Cantrell")
+                .append("luckyNumber", 42L)
+                .append("netWorth", new Decimal128(new BigDecimal("123456.789012")))
+                .append("dob", Date.from(Instant.parse("2018-12-31T00:00:00Z")))
+                .append("founded", Date.from(Instant.parse("1955-06-01T00:00:00Z")))
+                .append("friends", List.of(new Document("_id", objectId), "none"))
+                .append("owner", new DBRef("users", objectId));
+
+        final JsonNode node = converter.toJsonNode(document);
+
+        final List<String> fieldNames = new ArrayList<>();
+        node.fieldNames().forEachRemaining(fieldNames::add);
+        assertEquals(
+                List.of("_id", "name", "luckyNumber", "netWorth", "dob", "founded", "friends", "owner"), fieldNames);
+        assertEquals("5f1ed2b1c8f44a3d9c4f2a10", node.get("_id").asText());
+        assertEquals(42L, node.get("luckyNumber").longValue());
+        assertEquals("123456.789012", node.get("netWorth").toString());
+        assertEquals("2018-12-31T00:00:00Z", node.get("dob").asText());
+        assertEquals("1955-06-01T00:00:00Z", node.get("founded").asText());
+        assertEquals("5f1ed2b1c8f44a3d9c4f2a10", node.get("friends").get(0).get("_id").asText());
+        assertEquals("none", node.get("friends").get(1).asText());
+        assertEquals("users", node.get("owner").get("$ref").asText());
+        assertEquals("5f1ed2b1c8f44a3d9c4f2a10", node.get("owner").get("$id").asText());
+        assertTrue(node.get("owner").path("$db").isMissingNode());
+    }
+
+    @Test
+    public void testToJsonNode_unmappedType_writesExtendedJson() throws Exception {
+        final JsonNode node = converter.toJsonNode(new BsonTimestamp(1700000000, 3));
+
+        assertEquals(1700000000, node.get("$timestamp").get("t").asLong());
+        assertEquals(3, node.get("$timestamp").get("i").asInt());
+    }
+
+    @Test
+    public void testToJsonNode_nonFiniteNumbers_stayWrapped() throws Exception {
+        assertEquals("NaN", converter.toJsonNode(Double.NaN).get("$numberDouble").asText());
+        assertEquals(
+                "Infinity",
+                converter.toJsonNode(Decimal128.POSITIVE_INFINITY).get("$numberDecimal").asText());
+    }
+}
@@ -0,0 +1,102 @@
+package com.external.plugins.utils;
+
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class MongoCursorRegistryTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+
+    private final List<MongoCursorRegistry.CursorEntry> expiredCursors = new ArrayList<>();
+
+    private final MongoCursorRegistry registry =
+            new MongoCursorRegistry(Duration.ofMinutes(5), now::get, expiredCursors::add);
+
+    private final MongoClient mongoClient = mock(MongoClient.class);
+
+    private final ClientSession session = mock(ClientSession.class);
+
+    @Test
+    public void testResume_withinIdleTimeout_returnsCursorAndExtendsExpiry() {
+        final String token = registry.register(mongoClient, session, "db", "users", 42L, 10);
+
+        now.addAndGet(Duration.ofMinutes(4).toMillis());
+        assertEquals(42L, registry.resume(token, mongoClient).orElseThrow().cursorId());
+
+        now.addAndGet(Duration.ofMinutes(4).toMillis());
+        final MongoCursorRegistry.CursorEntry entry = registry.resume(token, mongoClient).orElseThrow();
+        assertEquals("users", entry.collectionName());
+        assertEquals(10, entry.batchSize());
+        assertTrue(expiredCursors.isEmpty());
+    }
+
+    @Test
+    public void testResume_afterIdleTimeout_expiresCursor() {
+        final String token = registry.register(mongoClient, session, "db", "users", 42L, 10);
+
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+
+        assertTrue(registry.resume(token, mongoClient).isEmpty());
+        assertEquals(1, expiredCursors.size());
+        assertEquals(42L, expiredCursors.get(0).cursorId());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testResume_fromAnotherClient_doesNotReturnCursor() {
+        final String token = registry.register(mongoClient, session, "db", "users", 42L, 10);
+
+        assertTrue(registry.resume(token, mock(MongoClient.class)).isEmpty());
+        assertTrue(registry.resume(token, mongoClient).isPresent());
+    }
+
+    @Test
+    public void testRemoveAll_dropsOnlyCursorsOfClient() {
+        final MongoClient otherClient = mock(MongoClient.class);
+        registry.register(mongoClient, session, "db", "users", 1L, 10);
+        registry.register(mongoClient, session, "db", "orders", 2L, 10);
+        final String otherToken = registry.register(otherClient, mock(ClientSession.class), "db", "users", 3L, 10);
+
+        registry.removeAll(mongoClient);
+
+        assertEquals(1, registry.size());
+        assertTrue(registry.resume(otherToken, otherClient).isPresent());
+        assertTrue(expiredCursors.isEmpty());
+        verify(session, times(2)).close();
+    }
+
+    @Test
+    public void testRemove_closesSessionOfCursor() {
+        final String token = registry.register(mongoClient, session, "db", "users", 42L, 10);
+
+        registry.remove(token);
+
+        assertTrue(registry.resume(token, mongoClient).isEmpty());
+        verify(session, times(1)).close();
+    }
+
+    @Test
+    public void testExpiry_leavesSessionToExpiryCallback() {
+        registry.register(mongoClient, session, "db", "users", 42L, 10);
+
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        registry.register(mongoClient, mock(ClientSession.class), "db", "users", 43L, 10);
+
+        assertEquals(1, expiredCursors.size());
+        assertEquals(session, expiredCursors.get(0).session());
+        verify(session, never()).close();
+    }
+}
@@ -7,7 +7,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -28,6 +30,7 @@ import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.external.plugins.utils.MssqlDatasourceUtils;
 import com.external.plugins.utils.MssqlExecuteUtils;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.pool.HikariPool;
@@ -40,7 +43,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -109,7 +111,7 @@ public class MssqlPlugin extends BasePlugin {
     @Extension
     public static class MssqlPluginExecutor implements PluginExecutor<HikariDataSource>, SmartSubstitutionInterface {
 
-        public static final Scheduler scheduler = Schedulers.boundedElastic();
+        public static final Scheduler scheduler = PluginSchedulers.get("mssql");
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
@@ -190,6 +192,7 @@ public class MssqlPlugin extends BasePlugin {
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
             List<RequestParamDTO> requestParams =
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
+            final JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
 
             return Mono.fromCallable(() -> {
                         boolean isResultSet;
@@ -197,7 +200,7 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        final ArrayNode rows = objectMapper.createArrayNode();
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -248,7 +251,9 @@ public class MssqlPlugin extends BasePlugin {
 
                         try {
                             if (FALSE.equals(preparedStatement)) {
-                                statement = sqlConnectionFromPool.createStatement();
+                                statement = statementCanceller.register(
+                                        sqlConnectionFromPool.createStatement(),
+                                        actionConfiguration.getTimeoutInMillisecond());
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -267,12 +272,14 @@ public class MssqlPlugin extends BasePlugin {
                                                         parameters.get(i).getKey(),
                                                         parameters.get(i).getValue())));
 
+                                statementCanceller.register(
+                                        preparedQuery, actionConfiguration.getTimeoutInMillisecond());
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
 
                             MssqlExecuteUtils.populateRowsAndColumns(
-                                    rowsList,
+                                    rows,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -288,6 +295,7 @@ public class MssqlPlugin extends BasePlugin {
                                     "SQLSTATE: " + e.getSQLState()));
 
                         } finally {
+                            statementCanceller.release();
                             // Log HikariCP status
                             logHikariCPStatus(
                                     MessageFormat.format("After executing Mssql query [{0}]", query),
@@ -297,12 +305,14 @@ public class MssqlPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows);
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the MssqlPlugin, got action execution result");
                         return Mono.just(result);
                     })
+                    // Stop the query on the database, if the execution is cancelled or times out while it runs
+                    .doOnCancel(statementCanceller::cancel)
                     .flatMap(obj -> obj)
                     .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
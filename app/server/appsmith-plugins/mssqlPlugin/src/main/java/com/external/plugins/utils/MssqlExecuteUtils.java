@@ -1,8 +1,14 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.JdbcRowsMaterializer;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.commons.lang.ObjectUtils;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -12,7 +18,6 @@ import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +34,11 @@ public class MssqlExecuteUtils {
     private static final String TIMETZ_TYPE_NAME = "timetz";
     private static final String INTERVAL_TYPE_NAME = "interval";
 
+    private static final ObjectMapper objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+
+    private static final JdbcRowsMaterializer rowsMaterializer =
+            new JdbcRowsMaterializer(objectMapper, MssqlExecuteUtils::getColumnReader);
+
     public static void closeConnectionPostExecution(
             ResultSet resultSet, Statement statement, PreparedStatement preparedQuery, Connection connectionFromPool) {
         if (resultSet != null) {
@@ -65,67 +75,61 @@ public class MssqlExecuteUtils {
                         Thread.currentThread().getName()));
     }
 
+    /**
+     * Picks how the values of a column are read, based on its type name. Called once per column of a result set.
+     */
+    private static JdbcRowsMaterializer.ColumnReader getColumnReader(String typeName) {
+        if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return (resultSet, i) -> {
+                final Date date = resultSet.getDate(i);
+                return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+            };
+        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return (resultSet, i) -> {
+                final Date date = resultSet.getDate(i);
+                return date == null
+                        ? null
+                        : DateTimeFormatter.ISO_DATE_TIME.format(
+                                        LocalDateTime.of(date.toLocalDate(), resultSet.getTime(i).toLocalTime()))
+                                + "Z";
+            };
+        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return (resultSet, i) -> {
+                final OffsetDateTime dateTime = resultSet.getObject(i, OffsetDateTime.class);
+                return dateTime == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(dateTime);
+            };
+        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return ResultSet::getString;
+        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return (resultSet, i) -> {
+                final Object interval = resultSet.getObject(i);
+                return interval == null ? null : interval.toString();
+            };
+        }
+
+        return JdbcRowsMaterializer.OBJECT_READER;
+    }
+
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            ArrayNode rows,
             List<String> columnsList,
             ResultSet resultSet,
             boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
             PreparedStatement preparedQuery)
-            throws SQLException {
+            throws SQLException, IOException {
 
         if (!isResultSet) {
             Object updateCount = FALSE.equals(preparedStatement)
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of("affectedRows", updateCount));
+            rows.add(objectMapper.valueToTree(Map.of("affectedRows", updateCount)));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
-
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                        resultSet.getDate(i).toLocalDate(),
-                                        resultSet.getTime(i).toLocalTime()))
-                                + "Z";
-
-                    } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-
-                    } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getString(i);
-
-                    } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getObject(i).toString();
-
-                    } else {
-                        value = resultSet.getObject(i);
-                    }
-
-                    row.put(metaData.getColumnName(i), value);
-                }
-
-                rowsList.add(row);
-            }
+            rowsMaterializer.materializeInto(resultSet, rows);
         }
     }
 }
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -27,12 +28,15 @@ import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
 import com.external.utils.MySqlDatasourceUtils;
 import com.external.utils.MySqlErrorUtils;
 import com.external.utils.QueryUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.R2dbcBadGrammarException;
@@ -53,10 +57,10 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import reactor.pool.PoolShutdownException;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -69,13 +73,14 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -168,7 +173,12 @@ public class MySqlPlugin extends BasePlugin {
             implements PluginExecutor<ConnectionContext<ConnectionPool>>, SmartSubstitutionInterface {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("mysql");
+        private final int maxResponseSize;
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -315,7 +325,6 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
@@ -350,38 +359,61 @@ public class MySqlPlugin extends BasePlugin {
                                                     CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG));
                                         });
 
-                                Mono<List<Map<String, Object>>> resultMono;
+                                Mono<JsonNode> resultMono;
                                 if (isSelectOrShowOrDescQuery) {
+                                    // The size is checked as rows stream in, and going over it cancels the query
+                                    // instead of reading the rest of the rows into memory.
+                                    final AtomicLong responseSize = new AtomicLong(2); // The brackets of the array
                                     resultMono = resultFlux
-                                            .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
-
-                                                if (columnsList.isEmpty()) {
-                                                    meta.getColumnMetadatas().stream()
-                                                            .forEach(columnMetadata ->
-                                                                    columnsList.add(columnMetadata.getName()));
+                                            .flatMap(result -> {
+                                                final RowMapper rowMapper = new RowMapper();
+                                                return result.map((row, meta) -> {
+                                                    if (columnsList.isEmpty()) {
+                                                        meta.getColumnMetadatas().stream()
+                                                                .forEach(columnMetadata ->
+                                                                        columnsList.add(columnMetadata.getName()));
+                                                    }
+
+                                                    return rowMapper.apply(row, meta);
+                                                });
+                                            })
+                                            .<JsonNode>handle((row, sink) -> {
+                                                final JsonNode rowNode = objectMapper.valueToTree(row);
+                                                try {
+                                                    // One more byte for the comma between rows
+                                                    if (maxResponseSize > 0
+                                                            && responseSize.addAndGet(getSerializedSize(rowNode) + 1)
+                                                                    > maxResponseSize) {
+                                                        log.debug(
+                                                                "Result size greater than maximum supported size "
+                                                                        + "of {} bytes",
+                                                                maxResponseSize);
+                                                        sink.error(new AppsmithPluginException(
+                                                                MySQLPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                                maxResponseSize / (1024f * 1024f)));
+                                                        return;
+                                                    }
+                                                } catch (IOException e) {
+                                                    sink.error(e);
+                                                    return;
                                                 }
-
-                                                return result;
-                                            }))
-                                            .collectList()
-                                            .thenReturn(rowsList);
+                                                sink.next(rowNode);
+                                            })
+                                            .collect(objectMapper::createArrayNode, ArrayNode::add)
+                                            .map(rows -> (JsonNode) rows);
                                 } else {
                                     resultMono = resultFlux
                                             .flatMap(Result::getRowsUpdated)
                                             .collectList()
                                             .map(list -> list.get(list.size() - 1))
-                                            .map(rowsUpdated -> {
-                                                rowsList.add(Map.of(
-                                                        "affectedRows", ObjectUtils.defaultIfNull(rowsUpdated, 0)));
-                                                return rowsList;
-                                            });
+                                            .map(rowsUpdated -> objectMapper.valueToTree(List.of(Map.of(
+                                                    "affectedRows", ObjectUtils.defaultIfNull(rowsUpdated, 0)))));
                                 }
 
                                 return resultMono
-                                        .map(res -> {
+                                        .map(body -> {
                                             ActionExecutionResult result = new ActionExecutionResult();
-                                            result.setBody(objectMapper.valueToTree(rowsList));
+                                            result.setBody(body);
                                             result.setMessages(populateHintMessages(columnsList));
                                             result.setIsExecutionSuccess(true);
                                             log.debug("In the MySqlPlugin, got action execution result");
@@ -563,52 +595,124 @@ public class MySqlPlugin extends BasePlugin {
          * 1. Parse the actual row objects returned by r2dbc driver for mysql statements.
          * 2. Return the row as a map {column_name -> column_value}.
          */
-        private Map<String, Object> getRow(Row row, RowMetadata meta) {
-            Iterator<ColumnDefinitionPacket> iterator =
-                    (Iterator<ColumnDefinitionPacket>) meta.getColumnMetadatas().iterator();
-            Map<String, Object> processedRow = new LinkedHashMap<>();
-
-            while (iterator.hasNext()) {
-                ColumnDefinitionPacket metaData = iterator.next();
-                String columnName = metaData.getName();
-                String javaTypeName = metaData.getJavaType().toString();
-                String sqlColumnType = metaData.getDataType().name();
-                Object columnValue = row.get(columnName);
-
-                if (java.time.LocalDate.class.toString().equalsIgnoreCase(javaTypeName) && columnValue != null) {
-                    columnValue = DateTimeFormatter.ISO_DATE.format(row.get(columnName, LocalDate.class));
-                } else if ((java.time.LocalDateTime.class.toString().equalsIgnoreCase(javaTypeName))
-                        && columnValue != null) {
-                    columnValue = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                    row.get(columnName, LocalDateTime.class).toLocalDate(),
-                                    row.get(columnName, LocalDateTime.class).toLocalTime()))
-                            + "Z";
-                } else if (java.time.LocalTime.class.toString().equalsIgnoreCase(javaTypeName) && columnValue != null) {
-                    columnValue = DateTimeFormatter.ISO_TIME.format(row.get(columnName, LocalTime.class));
-                } else if (java.time.Year.class.toString().equalsIgnoreCase(javaTypeName) && columnValue != null) {
-                    columnValue = row.get(columnName, LocalDate.class).getYear();
-                } else if (columnValue != null && JSON_DB_TYPE.equals(sqlColumnType)) {
-                    /**
-                     * In case of MySQL the JSON DB type is stored as a binary object in the DB. This is different from
-                     * MariaDB where it is stored as a text.Since we currently use MariaDB driver for MySQL plugin as
-                     * well the driver reads the JSON DB type data as byte array which we are converting to a string
-                     * here.
-                     *
-                     * Please note that this if check would not apply to MariaDB plugin since MariaDB stores JSON as
-                     * text.
-                     * Ref: https://mariadb.com/kb/en/json-data-type/
-                     **/
-                    if (columnValue.getClass().isArray()) {
-                        columnValue = new String((byte[]) columnValue, UTF_8);
-                    }
-                } else {
-                    columnValue = row.get(columnName);
+        private long getSerializedSize(JsonNode node) throws IOException {
+            final CountingOutputStream outputStream = new CountingOutputStream();
+            objectMapper.writeValue(outputStream, node);
+            return outputStream.count;
+        }
+
+        /**
+         * Reads the value of one column of a row, converted to what is sent back in the response.
+         */
+        @FunctionalInterface
+        private interface ColumnConverter {
+            Object convert(Row row, int index);
+        }
+
+        /**
+         * - Maps the rows of one result to maps keyed by column name, in column order.
+         * - The columns and their converters are resolved from the metadata of the first row, as it is the same for
+         * every row of a result, instead of being looked up again for every cell.
+         * - When more than one column has the same name, only the first of them is read, which is the value the row
+         * always ended up with.
+         */
+        private static class RowMapper implements BiFunction<Row, RowMetadata, Map<String, Object>> {
+            private String[] columnNames;
+            private int[] columnIndexes;
+            private ColumnConverter[] columnConverters;
+
+            @Override
+            public Map<String, Object> apply(Row row, RowMetadata meta) {
+                if (columnNames == null) {
+                    resolveColumns(meta);
+                }
+
+                Map<String, Object> processedRow = new LinkedHashMap<>();
+                for (int i = 0; i < columnNames.length; i++) {
+                    processedRow.put(columnNames[i], columnConverters[i].convert(row, columnIndexes[i]));
+                }
+
+                return processedRow;
+            }
+
+            private void resolveColumns(RowMetadata meta) {
+                final List<ColumnDefinitionPacket> columns = new ArrayList<>();
+                meta.getColumnMetadatas().forEach(column -> columns.add((ColumnDefinitionPacket) column));
+                final Map<String, Integer> firstIndexOfColumn = new LinkedHashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    firstIndexOfColumn.putIfAbsent(columns.get(i).getName(), i);
+                }
+
+                columnNames = firstIndexOfColumn.keySet().toArray(new String[0]);
+                columnIndexes = firstIndexOfColumn.values().stream()
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+                columnConverters = new ColumnConverter[columnIndexes.length];
+                for (int i = 0; i < columnIndexes.length; i++) {
+                    columnConverters[i] = getColumnConverter(columns.get(columnIndexes[i]));
                 }
+            }
+        }
+
+        private static ColumnConverter getColumnConverter(ColumnDefinitionPacket metaData) {
+            String javaTypeName = metaData.getJavaType().toString();
+            String sqlColumnType = metaData.getDataType().name();
+
+            if (java.time.LocalDate.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, index) -> {
+                    LocalDate value = row.get(index, LocalDate.class);
+                    return value == null ? null : DateTimeFormatter.ISO_DATE.format(value);
+                };
+            } else if (java.time.LocalDateTime.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, index) -> {
+                    LocalDateTime value = row.get(index, LocalDateTime.class);
+                    return value == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(value) + "Z";
+                };
+            } else if (java.time.LocalTime.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, index) -> {
+                    LocalTime value = row.get(index, LocalTime.class);
+                    return value == null ? null : DateTimeFormatter.ISO_TIME.format(value);
+                };
+            } else if (java.time.Year.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, index) -> {
+                    LocalDate value = row.get(index, LocalDate.class);
+                    return value == null ? null : value.getYear();
+                };
+            } else if (JSON_DB_TYPE.equals(sqlColumnType)) {
+                /**
+                 * In case of MySQL the JSON DB type is stored as a binary object in the DB. This is different from
+                 * MariaDB where it is stored as a text.Since we currently use MariaDB driver for MySQL plugin as
+                 * well the driver reads the JSON DB type data as byte array which we are converting to a string
+                 * here.
+                 *
+                 * Please note that this if check would not apply to MariaDB plugin since MariaDB stores JSON as
+                 * text.
+                 * Ref: https://mariadb.com/kb/en/json-data-type/
+                 **/
+                return (row, index) -> {
+                    Object value = row.get(index);
+                    if (value != null && value.getClass().isArray()) {
+                        return new String((byte[]) value, UTF_8);
+                    }
+                    return value;
+                };
+            }
 
-                processedRow.put(columnName, columnValue);
+            return Row::get;
+        }
+
+        private static class CountingOutputStream extends OutputStream {
+            private long count;
+
+            @Override
+            public void write(int b) {
+                count++;
             }
 
-            return processedRow;
+            @Override
+            public void write(byte[] b, int off, int len) {
+                count += len;
+            }
         }
 
         /**
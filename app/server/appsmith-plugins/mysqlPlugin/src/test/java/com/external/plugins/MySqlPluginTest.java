@@ -18,6 +18,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -75,7 +76,35 @@ import static reactor.core.publisher.Mono.zip;
 @Testcontainers
 public class MySqlPluginTest {
 
-    static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
+    public static class MockSharedConfig implements SharedConfig {
+
+        private final int maxResponseSize;
+
+        public MockSharedConfig() {
+            this(10 * 1024 * 1024);
+        }
+
+        public MockSharedConfig(int maxResponseSize) {
+            this.maxResponseSize = maxResponseSize;
+        }
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return maxResponseSize;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig());
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is
     // pseudo-optional.
@@ -1154,6 +1183,42 @@ public class MySqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteWithResponseLargerThanMaxSize() {
+        MySqlPlugin.MySqlPluginExecutor limitedPluginExecutor =
+                new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig(1000));
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ConnectionContext<ConnectionPool>> connectionContextMono =
+                limitedPluginExecutor.datasourceCreate(dsConfig).cache();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM information_schema.columns");
+
+        Mono<ActionExecutionResult> executeMono = connectionContextMono.flatMap(conn -> limitedPluginExecutor
+                .executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(MySQLPluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+
+        // The connection of the cancelled query is usable again
+        ActionConfiguration smallQueryConfiguration = new ActionConfiguration();
+        smallQueryConfiguration.setBody("SELECT 1 AS one");
+
+        Mono<ActionExecutionResult> smallQueryMono = connectionContextMono.flatMap(conn -> limitedPluginExecutor
+                .executeParameterized(conn, new ExecuteActionDTO(), dsConfig, smallQueryConfiguration));
+
+        StepVerifier.create(smallQueryMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).get(0).get("one").asInt());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecuteDescribeTableCmd() {
         dsConfig = createDatasourceConfiguration();
@@ -1202,7 +1267,7 @@ public class MySqlPluginTest {
 
     @Test
     public void testNullObjectWithPreparedStatement() {
-        pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor());
+        pluginExecutor = spy(new MySqlPlugin.MySqlPluginExecutor(new MockSharedConfig()));
         doReturn(false).when(pluginExecutor).isIsOperatorUsed(any());
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
         Mono<ConnectionContext<ConnectionPool>> connectionContextMono = pluginExecutor.datasourceCreate(dsConfig);
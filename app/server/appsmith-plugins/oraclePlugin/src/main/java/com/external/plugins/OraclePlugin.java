@@ -6,7 +6,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -24,6 +26,7 @@ import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
 import com.external.plugins.utils.OracleSpecificDataTypes;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
@@ -33,7 +36,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -90,7 +92,7 @@ public class OraclePlugin extends BasePlugin {
 
     @Extension
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
-        public static final Scheduler scheduler = Schedulers.boundedElastic();
+        public static final Scheduler scheduler = PluginSchedulers.get("oracle");
 
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
@@ -208,6 +210,7 @@ public class OraclePlugin extends BasePlugin {
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
             List<RequestParamDTO> requestParams =
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
+            final JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
 
             return Mono.fromCallable(() -> {
                         Connection connectionFromPool;
@@ -229,7 +232,7 @@ public class OraclePlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        final ArrayNode rows = objectMapper.createArrayNode();
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -243,7 +246,9 @@ public class OraclePlugin extends BasePlugin {
 
                         try {
                             if (FALSE.equals(preparedStatement)) {
-                                statement = connectionFromPool.createStatement();
+                                statement = statementCanceller.register(
+                                        connectionFromPool.createStatement(),
+                                        actionConfiguration.getTimeoutInMillisecond());
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -261,12 +266,14 @@ public class OraclePlugin extends BasePlugin {
                                                         parameters.get(i).getValue())));
 
                                 requestData.put("ps-parameters", parameters);
+                                statementCanceller.register(
+                                        preparedQuery, actionConfiguration.getTimeoutInMillisecond());
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
 
                             populateRowsAndColumns(
-                                    rowsList,
+                                    rows,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
@@ -283,6 +290,7 @@ public class OraclePlugin extends BasePlugin {
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
                         } finally {
+                            statementCanceller.release();
                             // Log HikariCP status
                             logHikariCPStatus(
                                     MessageFormat.format("After executing Oracle query [{0}]", query), connectionPool);
@@ -291,13 +299,15 @@ public class OraclePlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows);
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
                                 + ": In the OraclePlugin, got action execution result");
                         return Mono.just(result);
                     })
+                    // Stop the query on the database, if the execution is cancelled or times out while it runs
+                    .doOnCancel(statementCanceller::cancel)
                     .flatMap(obj -> obj)
                     .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
@@ -1,12 +1,18 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.JdbcRowsMaterializer;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
 import oracle.sql.CLOB;
 import org.apache.commons.lang.ObjectUtils;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -16,7 +22,6 @@ import java.text.MessageFormat;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -54,6 +59,11 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
 
     private static final Pattern PL_SQL_MATCH_PATTERN = Pattern.compile(PLSQL_MATCH_REGEX);
 
+    private static final ObjectMapper objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+
+    private static final JdbcRowsMaterializer rowsMaterializer =
+            new JdbcRowsMaterializer(objectMapper, OracleExecuteUtils::getColumnReader);
+
     public static void closeConnectionPostExecution(
             ResultSet resultSet, Statement statement, PreparedStatement preparedQuery, Connection connectionFromPool) {
         if (resultSet != null) {
@@ -115,80 +125,82 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
         return PL_SQL_MATCH_PATTERN.matcher(query.toLowerCase()).find();
     }
 
+    /**
+     * Picks how the values of a column are read, based on its type name. Called once per column of a result set.
+     */
+    private static JdbcRowsMaterializer.ColumnReader getColumnReader(String typeName) {
+        if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return (resultSet, i) -> {
+                final Date date = resultSet.getDate(i);
+                return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+            };
+        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
+                || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
+                || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return (resultSet, i) -> {
+                final OffsetDateTime dateTime = resultSet.getObject(i, OffsetDateTime.class);
+                return dateTime == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(dateTime);
+            };
+        } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
+            /**
+             * clob, nclob are textual data.
+             * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
+             */
+            return (resultSet, i) -> {
+                final Object clob = resultSet.getObject(i);
+                return clob == null
+                        ? null
+                        : String.valueOf(((CLOB) clob).getTarget().getPrefetchedData());
+            };
+        } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            /**
+             * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
+             * base64 encoded string. The correct way to read the data for these types is for the user to
+             * cast them to a type before reading them, example:
+             * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
+             */
+            return (resultSet, i) -> {
+                final Object raw = resultSet.getObject(i);
+                return raw == null ? null : Base64.getEncoder().encodeToString((byte[]) raw);
+            };
+        } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            // Same as RAW above, the bytes are sent back as a base64 encoded string.
+            return (resultSet, i) -> {
+                final OracleBlob blob = (OracleBlob) resultSet.getObject(i);
+                return blob == null ? null : blob.getBytes(1L, (int) blob.length());
+            };
+        }
+
+        return (resultSet, i) -> {
+            final Object value = resultSet.getObject(i);
+            if (value == null) {
+                return null;
+            } else if (value instanceof OracleArray) {
+                return ((OracleArray) value).getArray();
+            }
+            return value.toString();
+        };
+    }
+
     public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+            ArrayNode rows,
             List<String> columnsList,
             ResultSet resultSet,
             Boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
             PreparedStatement preparedQuery)
-            throws SQLException {
+            throws SQLException, IOException {
         if (!isResultSet) {
             Object updateCount = FALSE.equals(preparedStatement)
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
+            rows.add(objectMapper.valueToTree(Map.of(AFFECTED_ROWS_KEY, updateCount)));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
             columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
-
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                    } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
-                        /**
-                         * clob, nclob are textual data.
-                         * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
-                         */
-                        value = String.valueOf(
-                                ((CLOB) resultSet.getObject(i)).getTarget().getPrefetchedData());
-                    } else if (resultSet.getObject(i) instanceof OracleArray) {
-                        value = ((OracleArray) resultSet.getObject(i)).getArray();
-                    } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = Base64.getEncoder().encodeToString((byte[]) resultSet.getObject(i));
-                    } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = ((OracleBlob) resultSet.getObject(i))
-                                .getBytes(1L, (int) ((OracleBlob) resultSet.getObject(i)).length());
-                    } else {
-                        value = resultSet.getObject(i).toString();
-                    }
-
-                    row.put(metaData.getColumnName(i), value);
-                }
-
-                rowsList.add(row);
-            }
+            rowsMaterializer.materializeInto(resultSet, rows);
         }
     }
 }
@@ -8,7 +8,10 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcRowsMaterializer;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -32,6 +35,7 @@ import com.external.plugins.exceptions.PostgresErrorMessages;
 import com.external.plugins.exceptions.PostgresPluginError;
 import com.external.plugins.utils.MutualTLSCertValidatingFactory;
 import com.external.plugins.utils.PostgresDatasourceUtils;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -47,7 +51,6 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -87,7 +90,6 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRE
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -129,8 +131,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -143,7 +143,7 @@ public class PostgresPlugin extends BasePlugin {
 
     @Extension
     public static class PostgresPluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("postgres");
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
@@ -190,11 +190,79 @@ public class PostgresPlugin extends BasePlugin {
 
         private final SharedConfig sharedConfig;
         private final ConnectionPoolConfig connectionPoolConfig;
+        private final JdbcRowsMaterializer rowsMaterializer;
 
         public PostgresPluginExecutor(SharedConfig sharedConfig, ConnectionPoolConfig connectionPoolConfig) {
             this.sharedConfig = sharedConfig;
             this.connectionPoolConfig = connectionPoolConfig;
             MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+            this.rowsMaterializer = new JdbcRowsMaterializer(
+                    objectMapper,
+                    this::getColumnReader,
+                    MAX_SIZE_SUPPORTED,
+                    () -> new AppsmithPluginException(
+                            PostgresPluginError.RESPONSE_SIZE_TOO_LARGE, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+        }
+
+        /**
+         * Picks how the values of a column are read, based on its postgres type name. Called once per column of a
+         * result set.
+         */
+        private JdbcRowsMaterializer.ColumnReader getColumnReader(String typeName) {
+            if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final Date date = resultSet.getDate(i);
+                    return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+                };
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final Date date = resultSet.getDate(i);
+                    return date == null
+                            ? null
+                            : DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                            date.toLocalDate(),
+                                            resultSet.getTime(i).toLocalTime()))
+                                    + "Z";
+                };
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final OffsetDateTime dateTime = resultSet.getObject(i, OffsetDateTime.class);
+                    return dateTime == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(dateTime);
+                };
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return ResultSet::getString;
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final Object interval = resultSet.getObject(i);
+                    return interval == null ? null : interval.toString();
+                };
+            } else if (typeName.startsWith("_")) {
+                return (resultSet, i) -> {
+                    final Array array = resultSet.getArray(i);
+                    return array == null ? null : array.getArray();
+                };
+            } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final String json = resultSet.getString(i);
+                    return json == null ? null : objectMapper.readTree(json);
+                };
+            }
+
+            return (resultSet, i) -> {
+                final Object value = resultSet.getObject(i);
+
+                /**
+                 * Any type that JDBC does not understand gets mapped to PGobject. PGobject has two attributes: type
+                 * and value. Hence, when PGobject gets serialized, it gets converted into a JSON like
+                 * {"type":"citext", "value":"someText"}. Since we are only interested in the value and not the type,
+                 * it makes sense to extract out the value as a string.
+                 * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                 */
+                if (value instanceof PGobject) {
+                    return ((PGobject) value).getValue();
+                }
+                return value;
+            };
         }
 
         /**
@@ -329,6 +397,7 @@ public class PostgresPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams =
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
             Instant requestedAt = Instant.now();
+            final JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
 
             return Mono.fromCallable(() -> {
                         Connection connectionFromPool;
@@ -350,7 +419,7 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        final ArrayNode rows = objectMapper.createArrayNode();
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -373,7 +442,9 @@ public class PostgresPlugin extends BasePlugin {
                                 totalConnections);
                         try {
                             if (FALSE.equals(preparedStatement)) {
-                                statement = connectionFromPool.createStatement();
+                                statement = statementCanceller.register(
+                                        connectionFromPool.createStatement(),
+                                        actionConfiguration.getTimeoutInMillisecond());
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -396,6 +467,8 @@ public class PostgresPlugin extends BasePlugin {
                                                         parameters.get(i).getValue())));
 
                                 requestData.put("ps-parameters", parameters);
+                                statementCanceller.register(
+                                        preparedQuery, actionConfiguration.getTimeoutInMillisecond());
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
@@ -406,96 +479,13 @@ public class PostgresPlugin extends BasePlugin {
                                         ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                                         : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                rows.add(objectMapper.valueToTree(Map.of("affectedRows", updateCount)));
 
                             } else {
 
                                 ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-                                int iterator = 0;
-                                while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
-
-                                    rowsList.add(row);
-
-                                    iterator++;
-                                }
+                                rowsMaterializer.materializeInto(resultSet, rows);
                             }
 
                         } catch (SQLException e) {
@@ -515,6 +505,7 @@ public class PostgresPlugin extends BasePlugin {
                                     PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage()));
                         } finally {
+                            statementCanceller.release();
                             idleConnections = poolProxy.getIdleConnections();
                             activeConnections = poolProxy.getActiveConnections();
                             totalConnections = poolProxy.getTotalConnections();
@@ -560,12 +551,14 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows);
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In the PostgresPlugin, got action execution result");
                         return Mono.just(result);
                     })
+                    // Stop the query on the database, if the execution is cancelled or times out while it runs
+                    .doOnCancel(statementCanceller::cancel)
                     .flatMap(obj -> obj)
                     .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
@@ -1,7 +1,9 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -23,11 +25,12 @@ import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -57,10 +60,18 @@ public class RedisPlugin extends BasePlugin {
         super(wrapper);
     }
 
+    private record RedisCommand(Protocol.Command command, String[] args) {}
+
     @Extension
     public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("redis");
+
+        private final ConnectionPoolConfig connectionPoolConfig;
+
+        public RedisPluginExecutor(ConnectionPoolConfig connectionPoolConfig) {
+            this.connectionPoolConfig = connectionPoolConfig;
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(
@@ -88,35 +99,28 @@ public class RedisPlugin extends BasePlugin {
                                     String.format(RedisErrorMessages.BODY_IS_NULL_OR_EMPTY_ERROR_MSG, query)));
                         }
 
-                        Map cmdAndArgs = getCommandAndArgs(query.trim());
-                        if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                        // All the commands are validated before any of them is sent
+                        final List<RedisCommand> commands = splitCommands(query).stream()
+                                .map(this::parseCommand)
+                                .collect(Collectors.toList());
+                        if (commands.isEmpty()) {
                             return Mono.error(new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                     RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG));
                         }
+                        validateTransactions(commands);
 
-                        Protocol.Command command;
-                        try {
-                            // Commands are in upper case
-                            command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
-                        } catch (IllegalArgumentException exc) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format(
-                                            RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG,
-                                            cmdAndArgs.get(CMD_KEY))));
-                        }
-
-                        Object commandOutput;
-                        if (cmdAndArgs.containsKey(ARGS_KEY)) {
-                            commandOutput = jedis.sendCommand(command, (String[]) cmdAndArgs.get(ARGS_KEY));
+                        final Object result;
+                        if (commands.size() == 1) {
+                            final RedisCommand command = commands.get(0);
+                            Object commandOutput = jedis.sendCommand(command.command(), command.args());
+                            result = removeQuotes(processCommandOutput(commandOutput));
                         } else {
-                            commandOutput = jedis.sendCommand(command);
+                            result = executePipelined(jedis, commands);
                         }
 
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                        actionExecutionResult.setBody(
-                                objectMapper.valueToTree(removeQuotes(processCommandOutput(commandOutput))));
+                        actionExecutionResult.setBody(objectMapper.valueToTree(result));
                         actionExecutionResult.setIsExecutionSuccess(true);
 
                         log.debug("In the RedisPlugin, got action execution result");
@@ -182,6 +186,106 @@ public class RedisPlugin extends BasePlugin {
             return result;
         }
 
+        /**
+         * - Splits the body into one command per line, skipping blank lines.
+         * - A line break inside a quoted argument, e.g. in a JSON value, stays part of that argument. Quotes are read
+         * the same way as in {@link #getCommandAndArgs(String)}, i.e. only when they open an argument.
+         */
+        static List<String> splitCommands(String query) {
+            List<String> commands = new ArrayList<>();
+            int commandStart = 0;
+            int i = 0;
+            while (i < query.length()) {
+                char c = query.charAt(i);
+                boolean isArgumentStart = i == 0 || Character.isWhitespace(query.charAt(i - 1));
+                if ((c == '"' || c == '\'') && isArgumentStart) {
+                    int closingQuote = query.indexOf(c, i + 1);
+                    if (closingQuote > i + 1) {
+                        i = closingQuote + 1;
+                        continue;
+                    }
+                }
+
+                if (c == '\n') {
+                    commands.add(query.substring(commandStart, i));
+                    commandStart = i + 1;
+                }
+                i++;
+            }
+            commands.add(query.substring(commandStart));
+
+            return commands.stream()
+                    .map(String::trim)
+                    .filter(command -> !command.isEmpty())
+                    .collect(Collectors.toList());
+        }
+
+        private RedisCommand parseCommand(String query) {
+            Map cmdAndArgs = getCommandAndArgs(query);
+            if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG);
+            }
+
+            Protocol.Command command;
+            try {
+                // Commands are in upper case
+                command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG, cmdAndArgs.get(CMD_KEY)));
+            }
+
+            String[] args = cmdAndArgs.containsKey(ARGS_KEY) ? (String[]) cmdAndArgs.get(ARGS_KEY) : new String[0];
+            return new RedisCommand(command, args);
+        }
+
+        /**
+         * - A MULTI that is not closed by an EXEC or a DISCARD in the same query would leave the connection in a
+         * transaction when it goes back to the pool, and the next query on it would only be queued. Such queries are
+         * rejected before anything is sent.
+         */
+        private void validateTransactions(List<RedisCommand> commands) {
+            boolean isInTransaction = false;
+            for (RedisCommand redisCommand : commands) {
+                switch (redisCommand.command()) {
+                    case MULTI -> isInTransaction = true;
+                    case EXEC, DISCARD -> isInTransaction = false;
+                    default -> {}
+                }
+            }
+
+            if (isInTransaction) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        RedisErrorMessages.UNCLOSED_TRANSACTION_ERROR_MSG);
+            }
+        }
+
+        /**
+         * - Sends all the commands in a single pipeline, so that they take one round trip to the server instead of one
+         * each. MULTI and EXEC are sent like any other command, and Redis runs the commands between them atomically.
+         * - Returns one entry per command, in the same shape as the result of a single command. A command that fails
+         * does not stop the others, as Redis runs them anyway, and its entry holds the error instead.
+         */
+        private List<Object> executePipelined(Jedis jedis, List<RedisCommand> commands) {
+            final Pipeline pipeline = jedis.pipelined();
+            for (RedisCommand redisCommand : commands) {
+                pipeline.sendCommand(redisCommand.command(), redisCommand.args());
+            }
+
+            return pipeline.syncAndReturnAll().stream()
+                    .map(commandOutput -> {
+                        if (commandOutput instanceof JedisDataException) {
+                            return List.of(Map.of("error", ((JedisDataException) commandOutput).getMessage()));
+                        }
+                        return removeQuotes(processCommandOutput(commandOutput));
+                    })
+                    .collect(Collectors.toList());
+        }
+
         private Map getCommandAndArgs(String query) {
             /**
              * - This regex matches either a whole word, or anything inside double quotes. If something is inside
@@ -221,24 +325,35 @@ public class RedisPlugin extends BasePlugin {
             } else if (commandOutput instanceof byte[]) {
                 return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
             } else if (commandOutput instanceof List) {
-                List<byte[]> commandList = (List<byte[]>) commandOutput;
+                List<Object> commandList = (List<Object>) commandOutput;
                 return commandList.stream()
-                        .map(obj -> Map.of("result", SafeEncoder.encode(obj)))
+                        .map(obj -> Map.of("result", encodeOutput(obj)))
                         .collect(Collectors.toList());
             } else {
                 return List.of(Map.of("result", String.valueOf(commandOutput)));
             }
         }
 
+        // Replies nested in a list, e.g. the ones of EXEC, are not always bulk strings
+        private String encodeOutput(Object output) {
+            if (output instanceof byte[]) {
+                return SafeEncoder.encode((byte[]) output);
+            } else if (output instanceof JedisDataException) {
+                return ((JedisDataException) output).getMessage();
+            }
+
+            return String.valueOf(output);
+        }
+
         /**
          * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
          * - To understand what these config mean:
          * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
          */
-        private JedisPoolConfig buildPoolConfig() {
+        private JedisPoolConfig buildPoolConfig(int maxPoolSize) {
             final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
+            poolConfig.setMaxTotal(maxPoolSize);
+            poolConfig.setMaxIdle(maxPoolSize);
             poolConfig.setMinIdle(0);
             poolConfig.setTestOnBorrow(true);
             poolConfig.setTestOnReturn(true);
@@ -252,14 +367,16 @@ public class RedisPlugin extends BasePlugin {
 
         @Override
         public Mono<JedisPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return Mono.fromCallable(() -> {
-                        final JedisPoolConfig poolConfig = buildPoolConfig();
+            return connectionPoolConfig
+                    .getMaxConnectionPoolSize()
+                    .flatMap(maxPoolSize -> Mono.fromCallable(() -> {
+                        final JedisPoolConfig poolConfig = buildPoolConfig(maxPoolSize);
                         int timeout =
                                 (int) Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
                         URI uri = RedisURIUtils.getURI(datasourceConfiguration);
                         JedisPool jedisPool = new JedisPool(poolConfig, uri, timeout);
                         return jedisPool;
-                    })
+                    }))
                     .subscribeOn(scheduler);
         }
 
@@ -13,6 +13,9 @@ public class RedisErrorMessages extends BasePluginErrorMessages {
 
     public static final String INVALID_REDIS_COMMAND_ERROR_MSG = "Not a valid Redis command: %s";
 
+    public static final String UNCLOSED_TRANSACTION_ERROR_MSG =
+            "Found a MULTI without a matching EXEC or DISCARD. Please close every transaction in the same query.";
+
     public static final String NO_PONG_RESPONSE_ERROR_MSG = "Expected PONG in response of PING but got %s";
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG =
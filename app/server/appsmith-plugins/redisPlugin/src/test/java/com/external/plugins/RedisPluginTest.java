@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -47,7 +48,15 @@ public class RedisPluginTest {
     private static String host;
     private static Integer port;
 
-    private RedisPlugin.RedisPluginExecutor pluginExecutor = new RedisPlugin.RedisPluginExecutor();
+    public class MockConnectionPoolConfig implements ConnectionPoolConfig {
+        @Override
+        public Mono<Integer> getMaxConnectionPoolSize() {
+            return Mono.just(5);
+        }
+    }
+
+    private RedisPlugin.RedisPluginExecutor pluginExecutor =
+            new RedisPlugin.RedisPluginExecutor(new MockConnectionPoolConfig());
 
     @BeforeAll
     public static void setup() {
@@ -309,6 +318,85 @@ public class RedisPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void itShouldExecuteMultipleCommandsInAPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SET pipelinedKey 1\nINCR pipelinedKey\n\nHINCRBY pipelinedKey field 1\n"
+                + "SET pipelinedJson '{\n\"a\": \"b\"\n}'\nMGET pipelinedKey pipelinedJson");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(5, node.size());
+                    assertEquals("OK", node.get(0).get(0).get("result").asText());
+                    assertEquals("2", node.get(1).get(0).get("result").asText());
+                    // A failing command does not stop the ones after it
+                    assertTrue(node.get(2).get(0).get("error").asText().startsWith("WRONGTYPE"));
+                    assertEquals("OK", node.get(3).get(0).get("result").asText());
+                    assertEquals("2", node.get(4).get(0).get("result").asText());
+                    assertEquals("{\n\"a\": \"b\"\n}", node.get(4).get(1).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteTransactionInAPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("MULTI\nSET transactionKey 1\nINCR transactionKey\nEXEC");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, node.size());
+                    assertEquals("QUEUED", node.get(1).get(0).get("result").asText());
+                    final JsonNode execResult = node.get(3);
+                    assertEquals("OK", execResult.get(0).get("result").asText());
+                    assertEquals("2", execResult.get(1).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldThrowErrorIfTransactionIsNotClosed() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("MULTI\nSET unclosedKey 1");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldSplitCommandsOnLinesOutsideQuotes() {
+        assertEquals(
+                List.of("SET key 'multi\nline'", "GET key", "SET it's \"a\nb\""),
+                RedisPlugin.RedisPluginExecutor.splitCommands(
+                        "SET key 'multi\nline'\r\n\n  GET key\nSET it's \"a\nb\"\n"));
+    }
+
     @Test
     public void testSelectedDatabase() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -3,6 +3,9 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JdbcRowsMaterializer;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -16,6 +19,7 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.NonNull;
@@ -27,9 +31,9 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -69,7 +73,10 @@ public class RedshiftPlugin extends BasePlugin {
     @Extension
     public static class RedshiftPluginExecutor implements PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("redshift");
+
+        private final JdbcRowsMaterializer rowsMaterializer =
+                new JdbcRowsMaterializer(objectMapper, this::getColumnReader);
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
@@ -137,7 +144,8 @@ public class RedshiftPlugin extends BasePlugin {
             }
         }
 
-        private Map<String, Object> getRow(ResultSet resultSet) throws SQLException, AppsmithPluginException {
+        private ResultSetMetaData getResultSetMetaData(ResultSet resultSet)
+                throws SQLException, AppsmithPluginException {
             checkResultSetValidity(resultSet);
 
             ResultSetMetaData metaData = resultSet.getMetaData();
@@ -147,46 +155,46 @@ public class RedshiftPlugin extends BasePlugin {
              *    ResultSetMetaData.
              */
             if (metaData == null) {
-                log.debug("Redshift plugin: getRow: metaData is null. Ideally this is never supposed to "
+                log.debug("Redshift plugin: getResultSetMetaData: metaData is null. Ideally this is never supposed to "
                         + "happen as the Redshift JDBC driver does a null check before passing this object. This means "
                         + "that something has gone wrong while processing the query result.");
                 throw new AppsmithPluginException(
                         RedshiftPluginError.QUERY_EXECUTION_FAILED, RedshiftErrorMessages.NULL_METADATA_ERROR_MSG);
             }
 
-            int colCount = metaData.getColumnCount();
-            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-            Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-            for (int i = 1; i <= colCount; i++) {
-                Object value;
-                final String typeName = metaData.getColumnTypeName(i);
-
-                if (resultSet.getObject(i) == null) {
-                    value = null;
-
-                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE.format(
-                            resultSet.getDate(i).toLocalDate());
-
-                } else if ("timestamp".equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                    resultSet.getDate(i).toLocalDate(),
-                                    resultSet.getTime(i).toLocalTime()))
-                            + "Z";
-
-                } else if ("timestamptz".equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
-                    value = resultSet.getString(i);
-                } else {
-                    value = resultSet.getObject(i);
-                }
+            return metaData;
+        }
 
-                row.put(metaData.getColumnName(i), value);
+        /**
+         * Picks how the values of a column are read, based on its redshift type name. Called once per column of a
+         * result set.
+         */
+        private JdbcRowsMaterializer.ColumnReader getColumnReader(String typeName) {
+            if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final Date date = resultSet.getDate(i);
+                    return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+                };
+            } else if ("timestamp".equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final Date date = resultSet.getDate(i);
+                    return date == null
+                            ? null
+                            : DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                            date.toLocalDate(),
+                                            resultSet.getTime(i).toLocalTime()))
+                                    + "Z";
+                };
+            } else if ("timestamptz".equalsIgnoreCase(typeName)) {
+                return (resultSet, i) -> {
+                    final OffsetDateTime dateTime = resultSet.getObject(i, OffsetDateTime.class);
+                    return dateTime == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(dateTime);
+                };
+            } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
+                return ResultSet::getString;
             }
 
-            return row;
+            return JdbcRowsMaterializer.OBJECT_READER;
         }
 
         @Override
@@ -205,6 +213,8 @@ public class RedshiftPlugin extends BasePlugin {
                         RedshiftErrorMessages.QUERY_PARAMETER_MISSING_ERROR_MSG));
             }
 
+            final JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
+
             return Mono.fromCallable(() -> {
                         Connection connection = null;
                         try {
@@ -237,27 +247,24 @@ public class RedshiftPlugin extends BasePlugin {
                          */
                         printConnectionPoolStatus(connectionPool, false);
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        final ArrayNode rows = objectMapper.createArrayNode();
                         final List<String> columnsList = new ArrayList<>();
                         Statement statement = null;
                         ResultSet resultSet = null;
 
                         try {
-                            statement = connection.createStatement();
+                            statement = statementCanceller.register(
+                                    connection.createStatement(), actionConfiguration.getTimeoutInMillisecond());
                             boolean isResultSet = statement.execute(query);
 
                             if (isResultSet) {
                                 resultSet = statement.getResultSet();
-                                ResultSetMetaData metaData = resultSet.getMetaData();
+                                ResultSetMetaData metaData = getResultSetMetaData(resultSet);
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-                                while (resultSet.next()) {
-                                    Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
-                                }
+                                rowsMaterializer.materializeInto(resultSet, rows);
                             } else {
-                                rowsList.add(Map.of(
-                                        "affectedRows", ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)));
+                                rows.add(objectMapper.valueToTree(Map.of(
+                                        "affectedRows", ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0))));
                             }
                         } catch (SQLException e) {
                             e.printStackTrace();
@@ -267,6 +274,7 @@ public class RedshiftPlugin extends BasePlugin {
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
                         } finally {
+                            statementCanceller.release();
                             if (resultSet != null) {
                                 try {
                                     resultSet.close();
@@ -291,12 +299,14 @@ public class RedshiftPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows);
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug("In RedshiftPlugin, got action execution result");
                         return Mono.just(result);
                     })
+                    // Stop the query on the database, if the execution is cancelled or times out while it runs
+                    .doOnCancel(statementCanceller::cancel)
                     .flatMap(obj -> obj)
                     .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
@@ -3,6 +3,9 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JdbcRowsMaterializer;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
+import com.appsmith.external.helpers.PluginSchedulers;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -29,7 +32,6 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.security.PrivateKey;
 import java.sql.*;
@@ -38,7 +40,7 @@ import java.util.*;
 import static com.appsmith.external.constants.Authentication.DB_AUTH;
 import static com.appsmith.external.constants.Authentication.SNOWFLAKE_KEY_PAIR_AUTH;
 import static com.appsmith.external.constants.PluginConstants.PluginName.SNOWFLAKE_PLUGIN_NAME;
-import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
+import static com.external.utils.ExecutionUtils.materializeRowsFromQueryResult;
 import static com.external.utils.SnowflakeDatasourceUtils.getConnectionFromHikariConnectionPool;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
@@ -63,7 +65,10 @@ public class SnowflakePlugin extends BasePlugin {
     @Extension
     public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final Scheduler scheduler = PluginSchedulers.get("snowflake");
+
+        private final JdbcRowsMaterializer rowsMaterializer =
+                new JdbcRowsMaterializer(objectMapper, typeName -> JdbcRowsMaterializer.OBJECT_READER);
 
         @Override
         public Mono<ActionExecutionResult> execute(
@@ -79,6 +84,8 @@ public class SnowflakePlugin extends BasePlugin {
                         SnowflakeErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
+            final JdbcStatementCanceller statementCanceller = new JdbcStatementCanceller();
+
             return Mono.fromCallable(() -> {
                         Connection connectionFromPool;
 
@@ -114,7 +121,12 @@ public class SnowflakePlugin extends BasePlugin {
 
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connectionFromPool, query);
+                            return materializeRowsFromQueryResult(
+                                    connectionFromPool,
+                                    query,
+                                    statementCanceller,
+                                    actionConfiguration.getTimeoutInMillisecond(),
+                                    rowsMaterializer);
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
@@ -140,9 +152,11 @@ public class SnowflakePlugin extends BasePlugin {
                             }
                         }
                     })
-                    .map(rowsList -> {
+                    // Stop the query on the database, if the execution is cancelled or times out while it runs
+                    .doOnCancel(statementCanceller::cancel)
+                    .map(rows -> {
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rows);
                         result.setIsExecutionSuccess(true);
                         ActionExecutionRequest request = new ActionExecutionRequest();
                         request.setQuery(query);
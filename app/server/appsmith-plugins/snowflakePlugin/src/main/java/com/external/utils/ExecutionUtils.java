@@ -2,11 +2,15 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JdbcRowsMaterializer;
+import com.appsmith.external.helpers.JdbcStatementCanceller;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -32,7 +36,63 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
+        return executeQuery(connection, query, new JdbcStatementCanceller(), null, ExecutionUtils::readRows);
+    }
+
+    /**
+     * Execute query and return the resulting table as a JSON array of rows, registering the statement with the given
+     * canceller so that it can be stopped while it runs.
+     *
+     * @param connection         - Connection object to execute query.
+     * @param query              - Query string
+     * @param statementCanceller - Canceller of the execution that this query belongs to.
+     * @param timeoutInMillis    - Query timeout to set on the statement, or null to not set any.
+     * @param rowsMaterializer   - Materializer that converts the rows of the result set to JSON.
+     * @return JSON array of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static ArrayNode materializeRowsFromQueryResult(
+            Connection connection,
+            String query,
+            JdbcStatementCanceller statementCanceller,
+            Integer timeoutInMillis,
+            JdbcRowsMaterializer rowsMaterializer)
+            throws AppsmithPluginException, StaleConnectionException {
+        return executeQuery(connection, query, statementCanceller, timeoutInMillis, rowsMaterializer::materialize);
+    }
+
+    private static List<Map<String, Object>> readRows(ResultSet resultSet) throws SQLException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int colCount = metaData.getColumnCount();
+
+        while (resultSet.next()) {
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value = resultSet.getObject(i);
+                row.put(metaData.getColumnName(i), value);
+            }
+            rowsList.add(row);
+        }
+
+        return rowsList;
+    }
+
+    @FunctionalInterface
+    private interface ResultSetReader<T> {
+        T read(ResultSet resultSet) throws SQLException, IOException;
+    }
+
+    private static <T> T executeQuery(
+            Connection connection,
+            String query,
+            JdbcStatementCanceller statementCanceller,
+            Integer timeoutInMillis,
+            ResultSetReader<T> resultSetReader)
+            throws AppsmithPluginException, StaleConnectionException {
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -43,21 +103,9 @@ public class ExecutionUtils {
                 throw new StaleConnectionException(CONNECTION_INVALID_ERROR_MSG);
             }
 
-            statement = connection.createStatement();
+            statement = statementCanceller.register(connection.createStatement(), timeoutInMillis);
             resultSet = statement.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value = resultSet.getObject(i);
-                    row.put(metaData.getColumnName(i), value);
-                }
-                rowsList.add(row);
-            }
+            return resultSetReader.read(resultSet);
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
                 throw new StaleConnectionException(e.getMessage());
@@ -68,8 +116,14 @@ public class ExecutionUtils {
                     SnowflakeErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                     e.getMessage(),
                     "SQLSTATE: " + e.getSQLState());
-
+        } catch (IOException e) {
+            log.error("Exception caught when reading Snowflake query result. Cause: ", e);
+            throw new AppsmithPluginException(
+                    SnowflakePluginError.QUERY_EXECUTION_FAILED,
+                    SnowflakeErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                    e.getMessage());
         } finally {
+            statementCanceller.release();
             if (resultSet != null) {
                 try {
                     resultSet.close();
@@ -85,7 +139,5 @@ public class ExecutionUtils {
                 }
             }
         }
-
-        return rowsList;
     }
 }
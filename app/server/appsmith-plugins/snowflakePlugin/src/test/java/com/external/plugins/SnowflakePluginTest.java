@@ -34,6 +34,8 @@ import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.PrivateKey;
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
@@ -46,6 +48,7 @@ import static com.appsmith.external.constants.Authentication.DB_AUTH;
 import static com.appsmith.external.constants.Authentication.SNOWFLAKE_KEY_PAIR_AUTH;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -226,6 +229,48 @@ public class SnowflakePluginTest {
                 .verify();
     }
 
+    @Test
+    public void testExecute_withRows_returnsRowsInColumnOrder() throws SQLException {
+        final String testQuery = "select id, name from users";
+        final Connection connection = mock(Connection.class);
+        when(connection.isValid(30)).thenReturn(true);
+        final Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(testQuery)).thenReturn(resultSet);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnName(1)).thenReturn("ID");
+        when(metaData.getColumnName(2)).thenReturn("NAME");
+        when(metaData.getColumnTypeName(anyInt())).thenReturn("VARCHAR");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1L, 2L);
+        when(resultSet.getObject(2)).thenReturn("Alice", null);
+
+        final HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        when(hikariDataSource.getConnection()).thenReturn(connection);
+        when(hikariDataSource.isClosed()).thenReturn(false);
+        when(hikariDataSource.isRunning()).thenReturn(true);
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(testQuery);
+        final Mono<ActionExecutionResult> actionExecutionResultMono =
+                pluginExecutor.execute(hikariDataSource, new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(
+                            "[{\"ID\":1,\"NAME\":\"Alice\"},{\"ID\":2,\"NAME\":null}]",
+                            result.getBody().toString());
+                })
+                .verifyComplete();
+        verify(resultSet).close();
+        verify(statement).close();
+    }
+
     /**
      * Although this test verifies error with bad database name, the exact same flow would also apply to bad schema
      * and warehouse name - hence not replicating the tests for schema or warehouse - as it would provide no extra
@@ -490,6 +490,21 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
         return actionCollectionMono.flatMap(this::archiveGivenActionCollection);
     }
 
+    /**
+     * Publishes the action collections of an application. The collections that were deleted in edit mode are archived
+     * along with their actions, and the others are published in bulk, skipping the ones that haven't changed since
+     * the last publish.
+     *
+     * @return the number of action collections that were published
+     */
+    @Override
+    public Mono<Integer> publishActionCollections(String applicationId, AclPermission permission) {
+        return repository
+                .findDeletedInEditModeByApplicationId(applicationId, permission)
+                .flatMap(this::archiveGivenActionCollection)
+                .then(repository.publishActionCollections(applicationId, permission));
+    }
+
     protected Mono<ActionCollection> archiveGivenActionCollection(ActionCollection actionCollection) {
         Flux<NewAction> unpublishedJsActionsFlux = newActionService.findByCollectionIdAndViewMode(
                 actionCollection.getId(), false, actionPermission.getDeletePermission());
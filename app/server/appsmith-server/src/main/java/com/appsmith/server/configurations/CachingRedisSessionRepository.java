@@ -0,0 +1,485 @@
+package com.appsmith.server.configurations;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.ReactiveRedisSessionRepository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A session repository that keeps recently used web sessions in process, in front of Redis, so that most requests
+ * don't need a Redis round trip to load the session.
+ * <p>
+ * Sessions are stored in Redis in the same layout as {@link ReactiveRedisSessionRepository} uses, so that this can be
+ * switched on and off on a running installation, and so that {@code SessionUserService} can still find sessions by
+ * user. Cached sessions are held serialized, so that each request works on its own copy of the session attributes.
+ * <p>
+ * Changes to a session are written through to Redis. Changes made to a session by another replica are announced on a
+ * Redis channel, as are sessions deleted by logging out. The TTL of the near cache bounds how long a replica may miss
+ * such an announcement. Since every request touches the last accessed time of its session, that alone is written to
+ * Redis at most once every {@code lastAccessedTimeWriteInterval}, which is negligible next to the session timeout.
+ * <p>
+ * Every invalidation of a session id bumps a generation counter for that id. A session is only put in the near cache if
+ * the generation of its id has not changed since it was read, so that a read or save that races a logout cannot bring
+ * the logged out session back into the cache.
+ */
+@Slf4j
+public class CachingRedisSessionRepository
+        implements ReactiveSessionRepository<CachingRedisSessionRepository.CachedSession> {
+
+    // These match the layout used by ReactiveRedisSessionRepository, with its default namespace.
+    public static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+    private static final String CREATION_TIME_KEY = "creationTime";
+    private static final String LAST_ACCESSED_TIME_KEY = "lastAccessedTime";
+    private static final String MAX_INACTIVE_INTERVAL_KEY = "maxInactiveInterval";
+    private static final String ATTRIBUTE_PREFIX = "sessionAttr:";
+
+    // Generations are tracked per stripe of session ids, which bounds their memory. Ids sharing a stripe only cost the
+    // occasional skipped cache put.
+    private static final int GENERATION_STRIPES = 1024;
+
+    /**
+     * Channel on which the ids of sessions that were changed or deleted are published.
+     */
+    public static final String INVALIDATION_CHANNEL = "appsmith:session-invalidations";
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    private final RedisSerializationContext.SerializationPair<Object> valueSerializationPair;
+
+    private final Duration defaultMaxInactiveInterval;
+
+    private final long cacheTtlMillis;
+
+    private final long lastAccessedTimeWriteIntervalMillis;
+
+    private final Map<String, CacheEntry> cache;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Timer cacheFetchTimer = Metrics.timer("appsmith.session.fetch", "source", "near_cache");
+
+    private final Timer redisFetchTimer = Metrics.timer("appsmith.session.fetch", "source", "redis");
+
+    private Disposable invalidationSubscription;
+
+    public CachingRedisSessionRepository(
+            ReactiveRedisTemplate<String, Object> redisTemplate,
+            Duration defaultMaxInactiveInterval,
+            int maxEntries,
+            Duration cacheTtl,
+            Duration lastAccessedTimeWriteInterval) {
+        this.redisTemplate = redisTemplate;
+        this.valueSerializationPair = redisTemplate.getSerializationContext().getHashValueSerializationPair();
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+        this.lastAccessedTimeWriteIntervalMillis = lastAccessedTimeWriteInterval.toMillis();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        invalidationSubscription = redisTemplate
+                .listenToChannel(INVALIDATION_CHANNEL)
+                // Invalidations published while this replica was not subscribed are lost, start from a clean slate.
+                .doOnSubscribe(subscription -> invalidateAll())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> {
+                    if (message.getMessage() instanceof String sessionId) {
+                        invalidate(sessionId);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    @Override
+    public Mono<CachedSession> createSession() {
+        return Mono.fromSupplier(() -> {
+            MapSession mapSession = new MapSession(UUID.randomUUID().toString());
+            mapSession.setMaxInactiveInterval(defaultMaxInactiveInterval);
+            return new CachedSession(mapSession, true, null, getGeneration(mapSession.getId()));
+        });
+    }
+
+    @Override
+    public Mono<Void> save(CachedSession session) {
+        return Mono.defer(() -> {
+            final String sessionKey = getSessionKey(session.getId());
+            final boolean isIdChanged = !session.isNew && !session.getId().equals(session.originalId);
+            final boolean isOnlyAccessed = !session.isNew
+                    && !isIdChanged
+                    && session.removedAttributes.isEmpty()
+                    && session.delta.keySet().stream().allMatch(LAST_ACCESSED_TIME_KEY::equals);
+
+            if (isOnlyAccessed
+                    && session.getLastAccessedTime().toEpochMilli() - session.persistedLastAccessedTime
+                            < lastAccessedTimeWriteIntervalMillis) {
+                // Nothing to write yet, only keep the near cache current, unless the session was invalidated since it
+                // was read.
+                putInCache(session.cached, session.persistedLastAccessedTime, session.generation);
+                return Mono.empty();
+            }
+
+            if (session.isNew) {
+                return saveChanges(session, sessionKey, isIdChanged, isOnlyAccessed);
+            }
+
+            // Like ReactiveRedisSessionRepository, never write a session back that was deleted in the meantime, as
+            // that would bring a logged out session back to life.
+            return redisTemplate
+                    .hasKey(getSessionKey(session.originalId))
+                    .flatMap(exists -> exists
+                            ? saveChanges(session, sessionKey, isIdChanged, isOnlyAccessed)
+                            : Mono.error(new IllegalStateException("Session was invalidated")));
+        });
+    }
+
+    private Mono<Void> saveChanges(
+            CachedSession session, String sessionKey, boolean isIdChanged, boolean isOnlyAccessed) {
+        return Mono.defer(() -> {
+            // A changed id is new to this replica, so its generation is taken now rather than when it was read.
+            final long generation = isIdChanged ? getGeneration(session.getId()) : session.generation;
+
+            Mono<Void> writes = Mono.empty();
+            if (isIdChanged) {
+                final String originalId = session.originalId;
+                writes = writes.then(redisTemplate.rename(getSessionKey(originalId), sessionKey))
+                        .then(Mono.fromRunnable(() -> invalidate(originalId)))
+                        .then(publishInvalidation(originalId));
+            }
+            if (!session.delta.isEmpty()) {
+                writes = writes.then(redisTemplate.opsForHash().putAll(sessionKey, new HashMap<>(session.delta)))
+                        .then();
+            }
+            if (!session.removedAttributes.isEmpty()) {
+                writes = writes.then(redisTemplate
+                        .opsForHash()
+                        .remove(sessionKey, session.removedAttributes.toArray())
+                        .then());
+            }
+            final Duration maxInactiveInterval = session.getMaxInactiveInterval();
+            writes = writes.then(
+                    maxInactiveInterval.isNegative()
+                            ? redisTemplate.persist(sessionKey).then()
+                            : redisTemplate.expire(sessionKey, maxInactiveInterval).then());
+
+            if (!session.isNew && !isOnlyAccessed) {
+                // Other replicas may hold an older copy of this session.
+                writes = writes.then(publishInvalidation(session.getId()));
+            }
+
+            return writes.then(Mono.fromRunnable(() -> {
+                final long persistedLastAccessedTime =
+                        session.getLastAccessedTime().toEpochMilli();
+                session.markSaved(persistedLastAccessedTime, generation);
+                putInCache(session.cached, persistedLastAccessedTime, generation);
+            }));
+        });
+    }
+
+    @Override
+    public Mono<CachedSession> findById(String id) {
+        return Mono.defer(() -> {
+            final long startNanos = System.nanoTime();
+            // Taken before anything is read, so that a concurrent invalidation keeps what is read out of the cache
+            final long generation = getGeneration(id);
+            final CachedSession cachedSession = getFromCache(id, generation);
+            if (cachedSession != null) {
+                cacheFetchTimer.record(Duration.ofNanos(System.nanoTime() - startNanos));
+                return Mono.just(cachedSession);
+            }
+
+            return redisTemplate
+                    .opsForHash()
+                    .entries(getSessionKey(id))
+                    .collectMap(entry -> String.valueOf(entry.getKey()), Map.Entry::getValue)
+                    .doFinally(signalType -> redisFetchTimer.record(Duration.ofNanos(System.nanoTime() - startNanos)))
+                    .filter(fields -> !fields.isEmpty())
+                    .map(fields -> toMapSession(id, fields))
+                    .flatMap(mapSession -> {
+                        if (mapSession.isExpired()) {
+                            return deleteById(id).then(Mono.empty());
+                        }
+                        final long persistedLastAccessedTime =
+                                mapSession.getLastAccessedTime().toEpochMilli();
+                        putInCache(mapSession, persistedLastAccessedTime, generation);
+                        return Mono.just(new CachedSession(mapSession, false, persistedLastAccessedTime, generation));
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return Mono.defer(() -> {
+            invalidate(id);
+            // A read that started after the first invalidation may still have found the session in Redis
+            return redisTemplate
+                    .delete(getSessionKey(id))
+                    .then(Mono.fromRunnable(() -> invalidate(id)))
+                    .then(publishInvalidation(id));
+        });
+    }
+
+    private long getGeneration(String sessionId) {
+        return generations.get(getGenerationStripe(sessionId));
+    }
+
+    private static int getGenerationStripe(String sessionId) {
+        return Math.floorMod(sessionId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void invalidate(String sessionId) {
+        synchronized (cache) {
+            generations.incrementAndGet(getGenerationStripe(sessionId));
+            cache.remove(sessionId);
+        }
+    }
+
+    private void invalidateAll() {
+        synchronized (cache) {
+            for (int i = 0; i < GENERATION_STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            cache.clear();
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String sessionId) {
+        return redisTemplate
+                .convertAndSend(INVALIDATION_CHANNEL, sessionId)
+                .onErrorResume(error -> {
+                    log.warn("Failed to publish invalidation of a web session", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private CachedSession getFromCache(String id, long generation) {
+        final CacheEntry entry = cache.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(id, entry);
+            return null;
+        }
+
+        final Map<String, Object> fields = new HashMap<>();
+        entry.fields.forEach((key, bytes) -> fields.put(key, valueSerializationPair.read(ByteBuffer.wrap(bytes))));
+        final MapSession mapSession = toMapSession(id, fields);
+        if (mapSession.isExpired()) {
+            cache.remove(id, entry);
+            return null;
+        }
+
+        return new CachedSession(mapSession, false, entry.persistedLastAccessedTime, generation);
+    }
+
+    /**
+     * Caches the session, unless its id was invalidated after the given generation of it was taken.
+     */
+    private void putInCache(MapSession mapSession, long persistedLastAccessedTime, long generation) {
+        final Map<String, byte[]> fields = new HashMap<>();
+        try {
+            toFields(mapSession).forEach((key, value) -> {
+                final ByteBuffer buffer = valueSerializationPair.write(value);
+                final byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                fields.put(key, bytes);
+            });
+        } catch (RuntimeException e) {
+            log.debug("Not caching web session, it could not be serialized", e);
+            cache.remove(mapSession.getId());
+            return;
+        }
+
+        // Checked under the same lock that invalidations take, so that none can slip in between the check and the put
+        synchronized (cache) {
+            if (getGeneration(mapSession.getId()) == generation) {
+                cache.put(
+                        mapSession.getId(),
+                        new CacheEntry(
+                                fields, persistedLastAccessedTime, System.currentTimeMillis() + cacheTtlMillis));
+            }
+        }
+    }
+
+    private static Map<String, Object> toFields(MapSession mapSession) {
+        final Map<String, Object> fields = new HashMap<>();
+        fields.put(CREATION_TIME_KEY, mapSession.getCreationTime().toEpochMilli());
+        fields.put(LAST_ACCESSED_TIME_KEY, mapSession.getLastAccessedTime().toEpochMilli());
+        fields.put(
+                MAX_INACTIVE_INTERVAL_KEY, (int) mapSession.getMaxInactiveInterval().getSeconds());
+        for (String attributeName : mapSession.getAttributeNames()) {
+            fields.put(ATTRIBUTE_PREFIX + attributeName, mapSession.getAttribute(attributeName));
+        }
+        return fields;
+    }
+
+    private static MapSession toMapSession(String id, Map<String, Object> fields) {
+        final MapSession mapSession = new MapSession(id);
+        fields.forEach((key, value) -> {
+            if (CREATION_TIME_KEY.equals(key)) {
+                mapSession.setCreationTime(Instant.ofEpochMilli((Long) value));
+            } else if (LAST_ACCESSED_TIME_KEY.equals(key)) {
+                mapSession.setLastAccessedTime(Instant.ofEpochMilli((Long) value));
+            } else if (MAX_INACTIVE_INTERVAL_KEY.equals(key)) {
+                mapSession.setMaxInactiveInterval(Duration.ofSeconds((Integer) value));
+            } else if (key.startsWith(ATTRIBUTE_PREFIX)) {
+                mapSession.setAttribute(key.substring(ATTRIBUTE_PREFIX.length()), value);
+            }
+        });
+        return mapSession;
+    }
+
+    private static String getSessionKey(String sessionId) {
+        return SESSION_KEY_PREFIX + sessionId;
+    }
+
+    private record CacheEntry(Map<String, byte[]> fields, long persistedLastAccessedTime, long expiresAt) {}
+
+    /**
+     * A session that records the fields changed on it, so that only those are written to Redis on save.
+     */
+    public static final class CachedSession implements Session {
+
+        private final MapSession cached;
+
+        private final Map<String, Object> delta = new HashMap<>();
+
+        private final Set<String> removedAttributes = new HashSet<>();
+
+        private boolean isNew;
+
+        private String originalId;
+
+        private long persistedLastAccessedTime;
+
+        private long generation;
+
+        private CachedSession(MapSession cached, boolean isNew, Long persistedLastAccessedTime, long generation) {
+            this.cached = cached;
+            this.isNew = isNew;
+            this.generation = generation;
+            this.originalId = cached.getId();
+            if (isNew) {
+                delta.putAll(toFields(cached));
+            } else {
+                this.persistedLastAccessedTime = persistedLastAccessedTime;
+            }
+        }
+
+        private void markSaved(long persistedLastAccessedTime, long generation) {
+            delta.clear();
+            removedAttributes.clear();
+            isNew = false;
+            originalId = cached.getId();
+            this.persistedLastAccessedTime = persistedLastAccessedTime;
+            this.generation = generation;
+        }
+
+        @Override
+        public String getId() {
+            return cached.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            final String newId = UUID.randomUUID().toString();
+            cached.setId(newId);
+            return newId;
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return cached.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return cached.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            if (attributeValue == null) {
+                removeAttribute(attributeName);
+                return;
+            }
+            cached.setAttribute(attributeName, attributeValue);
+            delta.put(ATTRIBUTE_PREFIX + attributeName, attributeValue);
+            removedAttributes.remove(ATTRIBUTE_PREFIX + attributeName);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            cached.removeAttribute(attributeName);
+            delta.remove(ATTRIBUTE_PREFIX + attributeName);
+            removedAttributes.add(ATTRIBUTE_PREFIX + attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return cached.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            cached.setLastAccessedTime(lastAccessedTime);
+            delta.put(LAST_ACCESSED_TIME_KEY, lastAccessedTime.toEpochMilli());
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return cached.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            cached.setMaxInactiveInterval(interval);
+            delta.put(MAX_INACTIVE_INTERVAL_KEY, (int) interval.getSeconds());
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return cached.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return cached.isExpired();
+        }
+    }
+}
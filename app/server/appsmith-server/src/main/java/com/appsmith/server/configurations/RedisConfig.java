@@ -16,6 +16,7 @@ import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -53,9 +54,11 @@ import java.util.Map;
 @Configuration
 @Slf4j
 // Setting the maxInactiveInterval to 30 days
-@EnableRedisWebSession(maxInactiveIntervalInSeconds = 2592000)
+@EnableRedisWebSession(maxInactiveIntervalInSeconds = RedisConfig.SESSION_MAX_INACTIVE_INTERVAL_SECONDS)
 public class RedisConfig {
 
+    static final int SESSION_MAX_INACTIVE_INTERVAL_SECONDS = 2592000;
+
     @Value("${appsmith.redis.url:}")
     private String redisURL;
 
@@ -157,6 +160,25 @@ public class RedisConfig {
         return new JSONSessionRedisSerializer();
     }
 
+    /**
+     * Replaces the session repository registered by {@link EnableRedisWebSession} with one that keeps recently used
+     * sessions in process as well, when enabled.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "appsmith.session.near-cache.enabled", havingValue = "true")
+    CachingRedisSessionRepository cachingRedisSessionRepository(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            @Value("${appsmith.session.near-cache.max-entries:10000}") int maxEntries,
+            @Value("${appsmith.session.near-cache.ttl-seconds:30}") long ttlSeconds) {
+        return new CachingRedisSessionRepository(
+                reactiveRedisTemplate,
+                Duration.ofSeconds(SESSION_MAX_INACTIVE_INTERVAL_SECONDS),
+                maxEntries,
+                Duration.ofSeconds(ttlSeconds),
+                Duration.ofMinutes(1));
+    }
+
     @Bean
     public ClientResources clientResources(ObservationRegistry observationRegistry) {
         return ClientResources.builder()
@@ -8,9 +8,12 @@ import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -67,9 +70,13 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * View mode counterpart of {@link #getAllDataForFirstPageLoadForEditMode}. The response carries a strong entity
+     * tag, so a client that revalidates its copy with If-None-Match gets a 304 when nothing has changed.
+     */
     @JsonView(Views.Public.class)
     @GetMapping("/view")
-    public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
+    public Mono<ResponseEntity<ResponseDTO<JsonNode>>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
             @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
@@ -82,9 +89,12 @@ public class ConsolidatedAPIController {
                 ApplicationMode.PUBLISHED);
 
         return consolidatedAPIService
-                .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
-                .map(consolidatedAPIResponseDTO ->
-                        new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                .getConsolidatedInfoForViewModePageLoad(defaultPageId, applicationId, branchName)
+                // Not modified responses are sent by the result handler, based on the entity tag of the response
+                .map(viewResponseDTO -> ResponseEntity.ok()
+                        .eTag(viewResponseDTO.eTag())
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(new ResponseDTO<>(HttpStatus.OK.value(), viewResponseDTO.data(), null)))
                 .tag("pageId", Objects.toString(defaultPageId))
                 .tag("applicationId", Objects.toString(applicationId))
                 .tag("branchName", Objects.toString(branchName))
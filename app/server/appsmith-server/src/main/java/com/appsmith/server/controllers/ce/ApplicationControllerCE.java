@@ -23,6 +23,7 @@ import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exports.internal.ExportService;
 import com.appsmith.server.exports.internal.partial.PartialExportService;
 import com.appsmith.server.fork.internal.ApplicationForkingService;
+import com.appsmith.server.helpers.DataBufferStreamUtils;
 import com.appsmith.server.imports.internal.ImportService;
 import com.appsmith.server.imports.internal.partial.PartialImportService;
 import com.appsmith.server.projections.ApplicationSnapshotResponseDTO;
@@ -34,6 +35,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -51,6 +53,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -191,15 +194,21 @@ public class ApplicationControllerCE {
 
     @JsonView(Views.Public.class)
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<Object>> getApplicationFile(
-            @PathVariable String id, @RequestParam(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(
+            @PathVariable String id,
+            @RequestParam(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.debug("Going to export application with id: {}, branch: {}", id, branchName);
 
-        return exportService.getArtifactFile(id, branchName, APPLICATION).map(fetchedResource -> {
-            HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
-            Object applicationResource = fetchedResource.getArtifactResource();
-            return new ResponseEntity<>(applicationResource, responseHeaders, HttpStatus.OK);
-        });
+        boolean isGzipped = DataBufferStreamUtils.isGzipAccepted(acceptEncoding);
+        return exportService
+                .getArtifactFile(id, branchName, APPLICATION, isGzipped)
+                .map(fetchedResource -> {
+                    HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
+                    // The body is encoded according to the request's Accept-Encoding, which caches need to know
+                    responseHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                    return new ResponseEntity<>(fetchedResource.getArtifactResource(), responseHeaders, HttpStatus.OK);
+                });
     }
 
     @JsonView(Views.Public.class)
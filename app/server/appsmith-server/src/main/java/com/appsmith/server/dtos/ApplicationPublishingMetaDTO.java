@@ -1,7 +1,6 @@
 package com.appsmith.server.dtos;
 
 import com.appsmith.external.models.PluginType;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.ApplicationPage;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,6 +23,6 @@ public class ApplicationPublishingMetaDTO {
     // Required for analytics
     Mono<List<ApplicationPage>> applicationPagesMono;
     Mono<Map<PluginType, Integer>> actionCountByPluginTypeMapMono;
-    Mono<List<ActionCollection>> publishedActionCollectionsListMono;
+    Mono<Long> publishedActionCollectionCountMono;
     Mono<Set<CustomJSLibContextDTO>> updatedPublishedJSLibDTOsMono;
 }
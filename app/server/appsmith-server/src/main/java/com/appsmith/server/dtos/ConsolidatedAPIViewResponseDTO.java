@@ -0,0 +1,11 @@
+package com.appsmith.server.dtos;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The view mode consolidated API response, already serialized, along with the strong entity tag of its content.
+ *
+ * @param eTag the hex encoded SHA-256 of the response data, unquoted
+ * @param data the response data, in the same shape as a serialized {@link ConsolidatedAPIResponseDTO}
+ */
+public record ConsolidatedAPIViewResponseDTO(String eTag, JsonNode data) {}
@@ -27,4 +27,13 @@ public interface ExportServiceCE {
             String artifactId, String branchName, ArtifactType artifactType);
 
     Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType);
+
+    /**
+     * Exports the artifact as a downloadable file. The file is serialised while it is being sent, rather than
+     * up front, so the download starts right away.
+     *
+     * @param isGzipped whether the file is to be sent gzip encoded
+     */
+    Mono<ExportFileDTO> getArtifactFile(
+            String artifactId, String branchName, ArtifactType artifactType, boolean isGzipped);
 }
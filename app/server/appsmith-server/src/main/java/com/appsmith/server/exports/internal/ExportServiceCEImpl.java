@@ -20,6 +20,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.exportable.ExportableService;
 import com.appsmith.server.exports.internal.artifactbased.ArtifactBasedExportService;
+import com.appsmith.server.helpers.DataBufferStreamUtils;
 import com.appsmith.server.migrations.JsonSchemaVersions;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
@@ -27,6 +28,8 @@ import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -34,10 +37,14 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import static com.appsmith.server.constants.ce.FieldNameCE.ARTIFACT_CONTEXT;
 import static java.lang.Boolean.TRUE;
@@ -45,6 +52,8 @@ import static java.lang.Boolean.TRUE;
 @Slf4j
 public class ExportServiceCEImpl implements ExportServiceCE {
 
+    private static final int EXPORT_CHUNK_SIZE = 64 * 1024;
+
     private final SessionUserService sessionUserService;
     private final AnalyticsService analyticsService;
     private final WorkspaceService workspaceService;
@@ -53,6 +62,8 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     private final ExportableService<Plugin> pluginExportableService;
     private final ExportableService<CustomJSLib> customJSLibExportableService;
     protected final Gson gson;
+    // Writes `<`, `=`, `&` and the like as they are, as the exported files always had them
+    private final Gson exportFileGson;
     private final JsonSchemaVersions jsonSchemaVersions;
 
     public ExportServiceCEImpl(
@@ -69,6 +80,7 @@ public class ExportServiceCEImpl implements ExportServiceCE {
         this.analyticsService = analyticsService;
         this.workspaceService = workspaceService;
         this.gson = gson;
+        this.exportFileGson = gson.newBuilder().disableHtmlEscaping().create();
         this.applicationExportService = applicationExportService;
         this.datasourceExportableService = datasourceExportableService;
         this.pluginExportableService = pluginExportableService;
@@ -286,26 +298,50 @@ public class ExportServiceCEImpl implements ExportServiceCE {
     }
 
     public Mono<ExportFileDTO> getArtifactFile(String artifactId, String branchName, ArtifactType artifactType) {
+        return getArtifactFile(artifactId, branchName, artifactType, false);
+    }
+
+    @Override
+    public Mono<ExportFileDTO> getArtifactFile(
+            String artifactId, String branchName, ArtifactType artifactType, boolean isGzipped) {
         return exportByArtifactIdAndBranchName(artifactId, branchName, artifactType)
                 .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
                 .map(artifactExchangeJson -> {
-                    String stringifiedFile = gson.toJson(artifactExchangeJson);
                     String artifactName = artifactExchangeJson.getArtifact().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
                     HttpHeaders responseHeaders = new HttpHeaders();
                     ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                             .filename(artifactName + ".json", StandardCharsets.UTF_8)
                             .build();
                     responseHeaders.setContentDisposition(contentDisposition);
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+                    if (isGzipped) {
+                        responseHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
 
                     ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setArtifactResource(jsonObject);
+                    exportFileDTO.setArtifactResource(serialiseArtifactFile(artifactExchangeJson, isGzipped));
                     exportFileDTO.setHttpHeaders(responseHeaders);
                     return exportFileDTO;
                 });
     }
 
+    /**
+     * Serialises the exchange json straight into the chunks of the response body, as they are requested, instead of
+     * into an intermediate String.
+     */
+    private Flux<DataBuffer> serialiseArtifactFile(ArtifactExchangeJson artifactExchangeJson, boolean isGzipped) {
+        return DataBufferStreamUtils.outputStreamPublisher(
+                outputStream -> {
+                    OutputStream target =
+                            isGzipped ? new GZIPOutputStream(outputStream, EXPORT_CHUNK_SIZE) : outputStream;
+                    try (Writer writer = new OutputStreamWriter(target, StandardCharsets.UTF_8)) {
+                        exportFileGson.toJson(artifactExchangeJson, writer);
+                    }
+                },
+                DefaultDataBufferFactory.sharedInstance,
+                EXPORT_CHUNK_SIZE);
+    }
+
     /**
      * To send analytics event for import and export of application
      *
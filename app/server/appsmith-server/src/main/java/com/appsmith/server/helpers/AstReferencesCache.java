@@ -0,0 +1,172 @@
+package com.appsmith.server.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches the global references that the AST service finds in a binding, so that bindings which did not change between
+ * two layout updates are not sent to RTS again.
+ *
+ * Entries are keyed by a SHA-256 of the binding text and the eval version, which is all the result depends on, so an
+ * entry never needs to be invalidated. The entries are held in a bounded in-memory LRU map, and can additionally be
+ * written to Redis with a TTL, so that all server replicas share the work of parsing a binding. The cache is best
+ * effort: Redis errors are logged and treated as misses.
+ */
+@Slf4j
+@Component
+public class AstReferencesCache {
+
+    private static final String REDIS_KEY_PREFIX = "ast_references:";
+
+    private static final Duration REDIS_ENTRY_TTL = Duration.ofDays(1);
+
+    private static final TypeReference<Set<String>> REFERENCES_TYPE = new TypeReference<>() {};
+
+    private final ReactiveRedisOperations<String, String> redisOperations;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean isRedisEnabled;
+
+    private final Map<String, Set<String>> localCache;
+
+    private final Counter localHitCounter = Metrics.counter("appsmith.ast.references.cache", "result", "local_hit");
+
+    private final Counter redisHitCounter = Metrics.counter("appsmith.ast.references.cache", "result", "redis_hit");
+
+    private final Counter missCounter = Metrics.counter("appsmith.ast.references.cache", "result", "miss");
+
+    public AstReferencesCache(
+            ReactiveRedisOperations<String, String> redisOperations,
+            ObjectMapper objectMapper,
+            @Value("${appsmith.ast.references-cache.max-entries:20000}") int maxEntries,
+            @Value("${appsmith.ast.references-cache.redis-enabled:false}") boolean isRedisEnabled) {
+        this.redisOperations = redisOperations;
+        this.objectMapper = objectMapper;
+        this.isRedisEnabled = isRedisEnabled;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Looks up the references of all the given bindings.
+     *
+     * @return the cached references, keyed by binding. Bindings that are not cached are absent from the map.
+     */
+    public Mono<Map<String, Set<String>>> getAll(List<String> bindings, int evalVersion) {
+        final Map<String, Set<String>> found = new HashMap<>();
+        final List<String> localMisses = new ArrayList<>();
+        for (String binding : bindings) {
+            final Set<String> references = localCache.get(getKey(binding, evalVersion));
+            if (references != null) {
+                found.put(binding, references);
+            } else {
+                localMisses.add(binding);
+            }
+        }
+        localHitCounter.increment(found.size());
+
+        if (!isRedisEnabled || localMisses.isEmpty()) {
+            missCounter.increment(localMisses.size());
+            return Mono.just(found);
+        }
+
+        final List<String> redisKeys = localMisses.stream()
+                .map(binding -> REDIS_KEY_PREFIX + getKey(binding, evalVersion))
+                .toList();
+        return redisOperations
+                .opsForValue()
+                .multiGet(redisKeys)
+                .map(values -> {
+                    int redisHits = 0;
+                    for (int i = 0; i < localMisses.size() && i < values.size(); i++) {
+                        final Set<String> references = parseReferences(values.get(i));
+                        if (references != null) {
+                            final String binding = localMisses.get(i);
+                            localCache.put(getKey(binding, evalVersion), references);
+                            found.put(binding, references);
+                            redisHits++;
+                        }
+                    }
+                    redisHitCounter.increment(redisHits);
+                    missCounter.increment(localMisses.size() - redisHits);
+                    return found;
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to read AST references from Redis, treating them as not cached", error);
+                    missCounter.increment(localMisses.size());
+                    return Mono.just(found);
+                });
+    }
+
+    /**
+     * Caches the references found in each of the given bindings.
+     */
+    public Mono<Void> putAll(Map<String, Set<String>> referencesByBinding, int evalVersion) {
+        referencesByBinding.forEach(
+                (binding, references) -> localCache.put(getKey(binding, evalVersion), Set.copyOf(references)));
+
+        if (!isRedisEnabled || referencesByBinding.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(referencesByBinding.entrySet())
+                .flatMap(entry -> {
+                    try {
+                        return redisOperations
+                                .opsForValue()
+                                .set(
+                                        REDIS_KEY_PREFIX + getKey(entry.getKey(), evalVersion),
+                                        objectMapper.writeValueAsString(entry.getValue()),
+                                        REDIS_ENTRY_TTL);
+                    } catch (JsonProcessingException e) {
+                        return Mono.error(e);
+                    }
+                })
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Failed to write AST references to Redis", error);
+                    return Mono.empty();
+                });
+    }
+
+    private Set<String> parseReferences(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Set.copyOf(objectMapper.readValue(value, REFERENCES_TYPE));
+        } catch (JsonProcessingException e) {
+            log.debug("Ignoring unreadable cached AST references", e);
+            return null;
+        }
+    }
+
+    private static String getKey(String binding, int evalVersion) {
+        return DigestUtils.sha256Hex(evalVersion + ":" + binding);
+    }
+}
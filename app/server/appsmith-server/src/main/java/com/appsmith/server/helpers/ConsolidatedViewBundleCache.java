@@ -0,0 +1,141 @@
+package com.appsmith.server.helpers;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores the serialized, application scoped part of the view mode consolidated API response, so that the published
+ * pages, actions, action collections, themes and JS libraries of an application are read from Mongo and serialized
+ * once per version of the application, instead of once per page load.
+ *
+ * A bundle is keyed by the application id and a hash of everything its content depends on, so a changed application
+ * simply maps to a new key. Bundles are stored gzip compressed in Redis with a TTL. The cache is best effort: Redis
+ * errors are logged and treated as misses.
+ */
+@Slf4j
+@Component
+public class ConsolidatedViewBundleCache {
+
+    private static final String KEY_PREFIX = "consolidated_view_bundle:";
+
+    private static final int EVICTION_BATCH_SIZE = 100;
+
+    private final ReactiveRedisOperations<String, String> redisOperations;
+
+    private final Duration ttl;
+
+    @Getter
+    private final boolean isEnabled;
+
+    private final Counter hitCounter = Metrics.counter("appsmith.consolidated.view.bundle", "result", "hit");
+
+    private final Counter missCounter = Metrics.counter("appsmith.consolidated.view.bundle", "result", "miss");
+
+    public ConsolidatedViewBundleCache(
+            ReactiveRedisOperations<String, String> redisOperations,
+            @Value("${appsmith.consolidated-api.view-bundle.enabled:true}") boolean isEnabled,
+            @Value("${appsmith.consolidated-api.view-bundle.ttl-seconds:3600}") long ttlSeconds) {
+        this.redisOperations = redisOperations;
+        this.isEnabled = isEnabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * Builds the key of the bundle of an application.
+     *
+     * @param applicationId the id of the (branched) application the bundle belongs to
+     * @param versionParts  everything, other than the application id, that the content of the bundle depends on
+     */
+    public static String getKey(String applicationId, String... versionParts) {
+        return KEY_PREFIX + applicationId + ":" + DigestUtils.sha256Hex(String.join("\n", versionParts));
+    }
+
+    /**
+     * @return the uncompressed bundle stored under the given key, or empty if there is none.
+     */
+    public Mono<byte[]> get(String key) {
+        return redisOperations
+                .opsForValue()
+                .get(key)
+                .map(value -> decompress(Base64.getDecoder().decode(value)))
+                .doOnNext(bundle -> hitCounter.increment())
+                .switchIfEmpty(Mono.fromRunnable(missCounter::increment))
+                .onErrorResume(error -> {
+                    log.warn(
+                            "Failed to read consolidated view bundle {} from Redis, treating it as not cached",
+                            key,
+                            error);
+                    missCounter.increment();
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<Void> put(String key, byte[] bundle) {
+        return Mono.fromCallable(() -> Base64.getEncoder().encodeToString(compress(bundle)))
+                .flatMap(value -> redisOperations.opsForValue().set(key, value, ttl))
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Failed to write consolidated view bundle {} to Redis", key, error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Removes all bundles of the given application. Outdated bundles are never served, since their key is derived
+     * from the version of the application, so this only frees the memory they hold ahead of their TTL.
+     */
+    public Mono<Void> evictApplication(String applicationId) {
+        if (!isEnabled) {
+            return Mono.empty();
+        }
+
+        final ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + applicationId + ":*")
+                .count(EVICTION_BATCH_SIZE)
+                .build();
+        return redisOperations
+                .scan(scanOptions)
+                .buffer(EVICTION_BATCH_SIZE)
+                .concatMap(keys -> redisOperations.delete(keys.toArray(String[]::new)))
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Failed to evict consolidated view bundles of application {}", applicationId, error);
+                    return Mono.empty();
+                });
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] bytes) {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzipInputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
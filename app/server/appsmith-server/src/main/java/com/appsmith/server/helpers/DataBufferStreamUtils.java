@@ -0,0 +1,168 @@
+package com.appsmith.server.helpers;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+public final class DataBufferStreamUtils {
+
+    private DataBufferStreamUtils() {}
+
+    @FunctionalInterface
+    public interface StreamWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Runs the given writer on a bounded elastic thread and publishes whatever it writes as buffers of
+     * {@code chunkSize} bytes. The writer is paused whenever the subscriber has no outstanding demand, so the data is
+     * produced as fast as it is consumed, and only a chunk at a time is held in memory, however much is written.
+     *
+     * @param writer        writes the content to the given stream. It must not close the stream before it is done.
+     * @param bufferFactory the factory of the published buffers
+     * @param chunkSize     the size of the published buffers, except for the last one
+     * @return a cold publisher, that runs the writer once per subscription
+     */
+    public static Flux<DataBuffer> outputStreamPublisher(
+            StreamWriter writer, DataBufferFactory bufferFactory, int chunkSize) {
+        return Flux.create(sink -> {
+            final DemandAwareOutputStream outputStream = new DemandAwareOutputStream(sink, bufferFactory, chunkSize);
+            sink.onRequest(outputStream::request);
+            sink.onDispose(outputStream::cancel);
+
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    writer.writeTo(outputStream);
+                    outputStream.close();
+                    sink.complete();
+                } catch (CancellationException e) {
+                    // The subscriber is gone, so there's nobody left to notify
+                } catch (Throwable e) {
+                    sink.error(e);
+                }
+            });
+        });
+    }
+
+    /**
+     * Tells whether an {@code Accept-Encoding} request header allows a gzip encoded response. An encoding that is
+     * listed with a quality of zero, like {@code gzip;q=0}, is not acceptable.
+     */
+    public static boolean isGzipAccepted(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            if (!"gzip".equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                final String parameter = parts[i].trim();
+                if (parameter.toLowerCase().startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static class DemandAwareOutputStream extends OutputStream {
+
+        private final FluxSink<DataBuffer> sink;
+
+        private final DataBufferFactory bufferFactory;
+
+        private final byte[] chunk;
+
+        private int count = 0;
+
+        private long demand = 0;
+
+        private boolean isCancelled = false;
+
+        DemandAwareOutputStream(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory, int chunkSize) {
+            this.sink = sink;
+            this.bufferFactory = bufferFactory;
+            this.chunk = new byte[chunkSize];
+        }
+
+        synchronized void request(long n) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            isCancelled = true;
+            notifyAll();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            chunk[count++] = (byte) b;
+            if (count == chunk.length) {
+                emit();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int copied = Math.min(length, chunk.length - count);
+                System.arraycopy(bytes, offset, chunk, count, copied);
+                count += copied;
+                offset += copied;
+                length -= copied;
+                if (count == chunk.length) {
+                    emit();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (count > 0) {
+                emit();
+            }
+        }
+
+        private void emit() throws IOException {
+            awaitDemand();
+            sink.next(bufferFactory.wrap(Arrays.copyOf(chunk, count)));
+            count = 0;
+        }
+
+        private synchronized void awaitDemand() throws IOException {
+            try {
+                while (demand == 0 && !isCancelled) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the subscriber to request more data");
+            }
+
+            if (isCancelled) {
+                throw new CancellationException("The subscriber cancelled the stream");
+            }
+
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+        }
+    }
+}
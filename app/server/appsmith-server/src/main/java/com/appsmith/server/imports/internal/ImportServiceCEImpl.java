@@ -34,15 +34,24 @@ import com.google.gson.GsonBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +78,8 @@ public class ImportServiceCEImpl implements ImportServiceCE {
     private final JsonSchemaMigration jsonSchemaMigration;
     private final DryOperationRepository dryOperationRepository;
 
+    private volatile Gson artifactExchangeJsonGson;
+
     /**
      * This method provides the importService specific to the artifact based on the ArtifactType.
      * time complexity is O(1), as the map from which the service is being passes is pre-computed
@@ -112,20 +123,40 @@ public class ImportServiceCEImpl implements ImportServiceCE {
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        return DataBufferUtils.join(filePart.content())
-                .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                })
-                .map(jsonString -> {
-                    gsonBuilder.registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter);
-                    Gson gson = gsonBuilder.create();
-                    return gson.fromJson(jsonString, ArtifactExchangeJson.class);
+        // The chunks of the upload are parsed in place, one after the other, instead of being joined and copied
+        // into a String first, so that the file itself is held in memory only once while it is being parsed
+        return filePart.content()
+                .collectList()
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .map(dataBuffers -> {
+                    try (Reader reader = new InputStreamReader(asInputStream(dataBuffers), StandardCharsets.UTF_8)) {
+                        return getArtifactExchangeJsonGson().fromJson(reader, ArtifactExchangeJson.class);
+                    } catch (IOException e) {
+                        throw Exceptions.propagate(e);
+                    } finally {
+                        dataBuffers.forEach(DataBufferUtils::release);
+                    }
                 });
     }
 
+    /**
+     * Chains the given buffers into a single stream. The stream does not release the buffers, the caller does so once
+     * it is done with them, whether or not they were read through.
+     */
+    private static InputStream asInputStream(List<DataBuffer> dataBuffers) {
+        return new SequenceInputStream(Collections.enumeration(dataBuffers.stream()
+                .map(dataBuffer -> dataBuffer.asInputStream(false))
+                .toList()));
+    }
+
+    private Gson getArtifactExchangeJsonGson() {
+        if (artifactExchangeJsonGson == null) {
+            gsonBuilder.registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter);
+            artifactExchangeJsonGson = gsonBuilder.create();
+        }
+        return artifactExchangeJsonGson;
+    }
+
     /**
      * Hydrates an Artifact within the specified workspace by saving the provided JSON file.
      *
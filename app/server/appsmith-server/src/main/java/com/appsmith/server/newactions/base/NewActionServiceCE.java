@@ -147,7 +147,7 @@ public interface NewActionServiceCE extends CrudService<NewAction, String> {
             ImportActionCollectionResultDTO importActionCollectionResultDTO,
             ImportActionResultDTO importActionResultDTO);
 
-    Mono<Void> publishActions(String applicationId, AclPermission permission);
+    Mono<Integer> publishActions(String applicationId, AclPermission permission);
 
     Flux<PluginTypeAndCountDTO> countActionsByPluginType(String applicationId);
 
@@ -1701,14 +1701,14 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     /**
      * This method is used to publish actions of an application. It does two things:
      * 1. it deletes actions which are deleted from the edit mode.
-     * 2. It updates actions in bulk by setting publishedAction=unpublishedAction
+     * 2. It updates actions in bulk by setting publishedAction=unpublishedAction, for the actions where the two differ
      *
      * @param applicationId
      * @param permission
-     * @return
+     * @return the number of actions that were published
      */
     @Override
-    public Mono<Void> publishActions(String applicationId, AclPermission permission) {
+    public Mono<Integer> publishActions(String applicationId, AclPermission permission) {
         // delete the actions that were deleted in edit mode
         return repository
                 .archiveDeletedUnpublishedActions(applicationId, permission)
@@ -89,7 +89,7 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
     Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
             String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission);
 
-    Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission);
+    Mono<Integer> publishPages(Collection<String> pageIds, AclPermission permission);
 
     ApplicationPagesDTO getApplicationPagesDTO(Application application, List<NewPage> newPages, boolean viewMode);
 
@@ -656,7 +656,7 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
     }
 
     @Override
-    public Mono<Void> publishPages(Collection<String> pageIds, AclPermission permission) {
+    public Mono<Integer> publishPages(Collection<String> pageIds, AclPermission permission) {
         return repository.publishPages(pageIds, permission);
     }
 
@@ -10,18 +10,24 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
+import com.appsmith.server.projections.IdOnly;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 import lombok.NonNull;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -36,6 +42,7 @@ import java.lang.reflect.Modifier;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -86,6 +93,12 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public static final int NO_SKIP = 0;
 
+    /**
+     * The number of documents converted and sent to Mongo at a time by the bulk writes, so that a large import never
+     * holds the converted form of all its documents in memory at once.
+     */
+    public static final int BULK_WRITE_BATCH_SIZE = 500;
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -206,7 +219,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public Flux<T> queryAllExecute(QueryAllParams<T> params) {
         return queryAllExecute(params, this.genericDomain)
-                .flatMap(obj -> setUserPermissionsInObject(obj, params.getPermissionGroups()));
+                .map(obj -> populateUserPermissions(obj, params.getPermissionGroups()));
     }
 
     public <P> Flux<P> queryAllExecute(QueryAllParams<T> params, Class<P> projectionClass) {
@@ -245,7 +258,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public Mono<T> queryOneExecute(QueryAllParams<T> params) {
         return queryOneExecute(params, this.genericDomain)
-                .flatMap(obj -> setUserPermissionsInObject(obj, params.getPermissionGroups()));
+                .map(obj -> populateUserPermissions(obj, params.getPermissionGroups()));
     }
 
     public <P> Mono<P> queryOneExecute(QueryAllParams<T> params, Class<P> projectionClass) {
@@ -288,7 +301,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                     .query(this.genericDomain)
                     .matching(query)
                     .first()
-                    .flatMap(obj -> setUserPermissionsInObject(obj, permissionGroups));
+                    .map(obj -> populateUserPermissions(obj, permissionGroups));
         }));
     }
 
@@ -403,27 +416,45 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     }
 
     public Mono<T> setUserPermissionsInObject(T obj, Set<String> permissionGroups) {
+        return Mono.just(populateUserPermissions(obj, permissionGroups));
+    }
+
+    /**
+     * Sets the permissions that any of the given permission groups have on the object into its {@code userPermissions}.
+     * This runs for every document read through the query builder, so it is done synchronously, and each policy is
+     * checked by looking up the members of the smaller of the two sets in the other, as a user can be in many more
+     * groups than a policy lists, or the other way round.
+     */
+    protected T populateUserPermissions(T obj, Set<String> permissionGroups) {
         Set<String> permissions = new HashSet<>();
         obj.setUserPermissions(permissions);
 
-        if (CollectionUtils.isEmpty(obj.getPolicies()) || permissionGroups.isEmpty()) {
-            return Mono.just(obj);
+        if (CollectionUtils.isEmpty(obj.getPolicies()) || CollectionUtils.isEmpty(permissionGroups)) {
+            return obj;
         }
 
         for (Policy policy : obj.getPolicies()) {
             Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
+            if (CollectionUtils.isEmpty(policyPermissionGroups) || permissions.contains(policy.getPermission())) {
                 continue;
             }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
+            if (containsAny(policyPermissionGroups, permissionGroups)) {
+                permissions.add(policy.getPermission());
             }
         }
 
-        return Mono.just(obj);
+        return obj;
+    }
+
+    private static boolean containsAny(Set<String> first, Set<String> second) {
+        final Set<String> smaller = first.size() <= second.size() ? first : second;
+        final Set<String> larger = smaller == first ? second : first;
+        for (String permissionGroup : smaller) {
+            if (larger.contains(permissionGroup)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -515,44 +546,155 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             return Mono.empty();
         }
 
-        // convert the list of domains to a list of DBObjects
-        List<Document> dbObjects = domainList.stream()
-                .map(domain -> {
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(domain, document);
-                    return document;
-                })
-                .collect(Collectors.toList());
-
+        // convert the domains to DBObjects, and insert them, one batch at a time
         return mongoOperations
                 .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
-                .collectList()
+                .flatMapMany(documentMongoCollection -> Flux.fromIterable(domainList)
+                        .buffer(BULK_WRITE_BATCH_SIZE)
+                        .concatMap(batch -> documentMongoCollection.insertMany(batch.stream()
+                                .map(domain -> {
+                                    Document document = new Document();
+                                    mongoOperations.getConverter().write(domain, document);
+                                    return document;
+                                })
+                                .collect(Collectors.toList()))))
                 .then();
     }
 
+    /**
+     * Publishes, within the database, the documents matched by the criteria, by copying their
+     * {@code unpublishedField} to their {@code publishedField}. Documents in which the two fields are already equal,
+     * i.e. which haven't been edited since they were last published, are not matched, and hence not written.
+     *
+     * @return the number of documents that were published.
+     */
+    protected Mono<Integer> publishChangedExecute(
+            BridgeQuery<T> criteria, AclPermission permission, String unpublishedField, String publishedField) {
+        final Criteria changedCriteria = Criteria.where("$expr")
+                .is(new Document("$ne", List.of("$" + unpublishedField, "$" + publishedField)));
+
+        return queryBuilder()
+                .criteria(criteria)
+                .criteria(changedCriteria)
+                .permission(permission)
+                .updateAll(AggregationUpdate.update().set(publishedField).toValueOf(Fields.field(unpublishedField)));
+    }
+
     public Mono<Void> bulkUpdate(List<T> domainObjects) {
         if (CollectionUtils.isEmpty(domainObjects)) {
             return Mono.empty();
         }
 
-        // convert the list of new actions to a list of DBObjects
-        List<WriteModel<Document>> dbObjects = domainObjects.stream()
-                .map(actionCollection -> {
-                    assert actionCollection.getId() != null;
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(actionCollection, document);
-                    document.remove("_id");
-                    return (WriteModel<Document>) new UpdateOneModel<Document>(
-                            new Document("_id", new ObjectId(actionCollection.getId())),
-                            new Document("$set", document));
-                })
-                .collect(Collectors.toList());
-
+        // convert the domains to update operations, and write them, one batch at a time
         return mongoOperations
                 .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.bulkWrite(dbObjects))
-                .collectList()
+                .flatMapMany(documentMongoCollection -> Flux.fromIterable(domainObjects)
+                        .buffer(BULK_WRITE_BATCH_SIZE)
+                        .concatMap(batch -> documentMongoCollection.bulkWrite(batch.stream()
+                                .map(actionCollection -> {
+                                    assert actionCollection.getId() != null;
+                                    Document document = new Document();
+                                    mongoOperations.getConverter().write(actionCollection, document);
+                                    document.remove("_id");
+                                    return (WriteModel<Document>) new UpdateOneModel<Document>(
+                                            new Document("_id", new ObjectId(actionCollection.getId())),
+                                            new Document("$set", document));
+                                })
+                                .collect(Collectors.toList()))))
                 .then();
     }
+
+    /**
+     * Adds the permission groups in the given policies to, or removes them from, the policies of all the documents
+     * matched by the params, without loading the documents into memory. Only the ids of the matching documents are
+     * read, honouring the permission in the params, and each batch of them is then updated with a single bulk write
+     * of {@code $addToSet} / {@code $pullAll} operations on the {@code policies.permissionGroups} paths.
+     *
+     * @return the number of documents processed, emitted once per batch.
+     */
+    public Flux<Integer> updatePoliciesExecute(
+            @NonNull QueryAllParams<T> params,
+            @NonNull Map<String, Policy> policyMap,
+            boolean addPolicyToObject,
+            int batchSize) {
+        Objects.requireNonNull(params.getCriteria());
+
+        if (policyMap.isEmpty()) {
+            return Flux.empty();
+        }
+
+        final List<Policy> policies = List.copyOf(policyMap.values());
+
+        return params.all(IdOnly.class)
+                .map(idOnly -> new ObjectId(idOnly.id()))
+                .buffer(batchSize)
+                .concatMap(ids -> {
+                    final List<WriteModel<Document>> updates = addPolicyToObject
+                            ? getAddPoliciesUpdates(ids, policies)
+                            : getRemovePoliciesUpdates(ids, policies);
+                    return mongoOperations
+                            .getCollection(mongoOperations.getCollectionName(genericDomain))
+                            .flatMap(collection -> Mono.from(collection.bulkWrite(updates)))
+                            .thenReturn(ids.size());
+                });
+    }
+
+    private static List<WriteModel<Document>> getAddPoliciesUpdates(List<ObjectId> ids, List<Policy> policies) {
+        final List<WriteModel<Document>> updates = new ArrayList<>();
+        final Document idFilter = new Document("_id", new Document("$in", ids));
+
+        // Documents that don't have a policy for a permission yet, get an empty one, which is filled in below
+        for (Policy policy : policies) {
+            final Document missingPolicyFilter = new Document(
+                    BaseDomain.Fields.policies,
+                    new Document(
+                            "$not",
+                            new Document("$elemMatch", new Document("permission", policy.getPermission()))));
+            final Document emptyPolicy = new Document("permission", policy.getPermission())
+                    .append("permissionGroups", new ArrayList<>());
+            updates.add(new UpdateManyModel<>(
+                    new Document("$and", List.of(idFilter, missingPolicyFilter)),
+                    new Document("$push", new Document(BaseDomain.Fields.policies, emptyPolicy))));
+        }
+
+        final Document addToSet = new Document();
+        final List<Bson> arrayFilters = new ArrayList<>();
+        for (int i = 0; i < policies.size(); i++) {
+            final Policy policy = policies.get(i);
+            final String identifier = "p" + i;
+            addToSet.append(
+                    BaseDomain.Fields.policies + ".$[" + identifier + "].permissionGroups",
+                    new Document("$each", getPermissionGroups(policy)));
+            arrayFilters.add(new Document(identifier + ".permission", policy.getPermission()));
+        }
+        updates.add(new UpdateManyModel<>(
+                idFilter,
+                new Document("$addToSet", addToSet)
+                        .append("$set", new Document(BaseDomain.Fields.updatedAt, new Date())),
+                new UpdateOptions().arrayFilters(arrayFilters)));
+
+        return updates;
+    }
+
+    private static List<WriteModel<Document>> getRemovePoliciesUpdates(List<ObjectId> ids, List<Policy> policies) {
+        final Document pullAll = new Document();
+        final List<Bson> arrayFilters = new ArrayList<>();
+        for (int i = 0; i < policies.size(); i++) {
+            final Policy policy = policies.get(i);
+            final String identifier = "p" + i;
+            pullAll.append(
+                    BaseDomain.Fields.policies + ".$[" + identifier + "].permissionGroups",
+                    getPermissionGroups(policy));
+            arrayFilters.add(new Document(identifier + ".permission", policy.getPermission()));
+        }
+
+        return List.of(new UpdateManyModel<>(
+                new Document("_id", new Document("$in", ids)),
+                new Document("$pullAll", pullAll).append("$set", new Document(BaseDomain.Fields.updatedAt, new Date())),
+                new UpdateOptions().arrayFilters(arrayFilters)));
+    }
+
+    private static List<String> getPermissionGroups(Policy policy) {
+        return policy.getPermissionGroups() == null ? List.of() : List.copyOf(policy.getPermissionGroups());
+    }
 }
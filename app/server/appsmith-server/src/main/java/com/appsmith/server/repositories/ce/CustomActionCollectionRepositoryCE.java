@@ -49,4 +49,10 @@ public interface CustomActionCollectionRepositoryCE extends AppsmithRepository<A
             String contextId, CreatorContextType contextType, AclPermission permission);
 
     Flux<ActionCollection> findByPageIdAndViewMode(String pageId, boolean viewMode, AclPermission permission);
+
+    Mono<Long> countByApplicationIdAndViewMode(String applicationId, boolean viewMode, AclPermission permission);
+
+    Flux<ActionCollection> findDeletedInEditModeByApplicationId(String applicationId, AclPermission permission);
+
+    Mono<Integer> publishActionCollections(String applicationId, AclPermission permission);
 }
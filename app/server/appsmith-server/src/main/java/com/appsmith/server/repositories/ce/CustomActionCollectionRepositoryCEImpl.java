@@ -74,6 +74,40 @@ public class CustomActionCollectionRepositoryCEImpl extends BaseAppsmithReposito
         return queryBuilder().criteria(bridgeQuery).permission(aclPermission).all();
     }
 
+    @Override
+    public Mono<Long> countByApplicationIdAndViewMode(
+            String applicationId, boolean viewMode, AclPermission aclPermission) {
+        BridgeQuery<ActionCollection> bridgeQuery =
+                getBridgeQueryForFindByApplicationIdAndViewMode(applicationId, viewMode);
+
+        return queryBuilder().criteria(bridgeQuery).permission(aclPermission).count();
+    }
+
+    @Override
+    public Flux<ActionCollection> findDeletedInEditModeByApplicationId(
+            String applicationId, AclPermission aclPermission) {
+        final BridgeQuery<ActionCollection> bridgeQuery = Bridge.<ActionCollection>equal(
+                        ActionCollection.Fields.applicationId, applicationId)
+                .isNotNull(ActionCollection.Fields.unpublishedCollection_deletedAt);
+
+        return queryBuilder().criteria(bridgeQuery).permission(aclPermission).all();
+    }
+
+    /**
+     * Copies the unpublished collection to the published collection in the collections of the application that were
+     * not deleted in edit mode, skipping the ones that haven't changed since they were last published.
+     *
+     * @return the number of collections that were published.
+     */
+    @Override
+    public Mono<Integer> publishActionCollections(String applicationId, AclPermission aclPermission) {
+        return publishChangedExecute(
+                getBridgeQueryForFindByApplicationIdAndViewMode(applicationId, false),
+                aclPermission,
+                ActionCollection.Fields.unpublishedCollection,
+                ActionCollection.Fields.publishedCollection);
+    }
+
     protected BridgeQuery<ActionCollection>
             getBridgeQueryForFindAllActionCollectionsByNameDefaultPageIdsViewModeAndBranch(
                     String branchName, boolean viewMode, String name, List<String> pageIds) {
@@ -59,7 +59,7 @@ public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewActio
     Flux<NewAction> findAllNonJsActionsByNameAndPageIdsAndViewMode(
             String name, List<String> pageIds, Boolean viewMode, AclPermission aclPermission, Sort sort);
 
-    Mono<Void> publishActions(String applicationId, AclPermission permission);
+    Mono<Integer> publishActions(String applicationId, AclPermission permission);
 
     Mono<Integer> archiveDeletedUnpublishedActions(String applicationId, AclPermission permission);
 
@@ -1,6 +1,7 @@
 package com.appsmith.server.repositories.ce.params;
 
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
@@ -16,6 +17,7 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.NO_RECORD_LIMIT;
@@ -87,6 +89,11 @@ public class QueryAllParams<T extends BaseDomain> {
         return repo.updateExecute(this, update);
     }
 
+    public Flux<Integer> updatePolicies(
+            @NonNull Map<String, Policy> policyMap, boolean addPolicyToObject, int batchSize) {
+        return repo.updatePoliciesExecute(this, policyMap, addPolicyToObject, batchSize);
+    }
+
     public QueryAllParams<T> criteria(Criteria c) {
         if (c == null) {
             return this;
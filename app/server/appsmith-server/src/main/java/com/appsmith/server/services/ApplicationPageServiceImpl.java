@@ -9,6 +9,7 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.git.autocommit.helpers.AutoCommitEligibilityHelper;
 import com.appsmith.server.git.autocommit.helpers.GitAutoCommitHelper;
 import com.appsmith.server.helpers.CommonGitFileUtils;
+import com.appsmith.server.helpers.ConsolidatedViewBundleCache;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.layouts.UpdateLayoutService;
@@ -66,7 +67,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             GitAutoCommitHelper gitAutoCommitHelper,
             AutoCommitEligibilityHelper autoCommitEligibilityHelper,
             ClonePageService<NewAction> actionClonePageService,
-            ClonePageService<ActionCollection> actionCollectionClonePageService) {
+            ClonePageService<ActionCollection> actionCollectionClonePageService,
+            ConsolidatedViewBundleCache consolidatedViewBundleCache) {
         super(
                 workspaceService,
                 applicationService,
@@ -96,6 +98,7 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 datasourcePermission,
                 dslMigrationUtils,
                 actionClonePageService,
-                actionCollectionClonePageService);
+                actionCollectionClonePageService,
+                consolidatedViewBundleCache);
     }
 }
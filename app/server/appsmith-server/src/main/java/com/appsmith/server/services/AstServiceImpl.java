@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.helpers.AstReferencesCache;
 import com.appsmith.server.helpers.RTSCaller;
 import com.appsmith.server.services.ce.AstServiceCEImpl;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class AstServiceImpl extends AstServiceCEImpl implements AstService {
 
-    public AstServiceImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, RTSCaller rtsCaller) {
-        super(commonConfig, instanceConfig, rtsCaller);
+    public AstServiceImpl(
+            CommonConfig commonConfig,
+            InstanceConfig instanceConfig,
+            RTSCaller rtsCaller,
+            AstReferencesCache astReferencesCache) {
+        super(commonConfig, instanceConfig, rtsCaller, astReferencesCache);
     }
 }
@@ -35,6 +35,7 @@ import com.appsmith.server.dtos.PluginTypeAndCountDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.CommonGitFileUtils;
+import com.appsmith.server.helpers.ConsolidatedViewBundleCache;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.GitUtils;
 import com.appsmith.server.helpers.ResponseUtils;
@@ -61,6 +62,7 @@ import com.appsmith.server.solutions.PagePermission;
 import com.appsmith.server.solutions.WorkspacePermission;
 import com.appsmith.server.themes.base.ThemeService;
 import com.google.common.base.Strings;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -84,6 +86,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
@@ -95,6 +98,10 @@ import static org.apache.commons.lang.ObjectUtils.defaultIfNull;
 @Service
 public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
 
+    private static final String PUBLISH_PHASE_TIMER_NAME = "appsmith.publish.phase";
+
+    private static final String PUBLISHED_DOCUMENTS_COUNTER_NAME = "appsmith.publish.documents";
+
     private final WorkspaceService workspaceService;
     private final ApplicationService applicationService;
     private final SessionUserService sessionUserService;
@@ -127,6 +134,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final DSLMigrationUtils dslMigrationUtils;
     private final ClonePageService<NewAction> actionClonePageService;
     private final ClonePageService<ActionCollection> actionCollectionClonePageService;
+    private final ConsolidatedViewBundleCache consolidatedViewBundleCache;
 
     @Override
     public Mono<PageDTO> createPage(PageDTO page) {
@@ -1051,7 +1059,10 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
         return publishAndGetMetadata(applicationId, isPublishedManually)
                 .flatMap(tuple2 -> {
                     ApplicationPublishingMetaDTO metaDTO = tuple2.getT2();
-                    return sendApplicationPublishedEvent(metaDTO);
+                    // The view mode bundles of the previous version of the application will never be served again
+                    return consolidatedViewBundleCache
+                            .evictApplication(applicationId)
+                            .then(sendApplicationPublishedEvent(metaDTO));
                 })
                 .elapsed()
                 .map(objects -> {
@@ -1073,8 +1084,9 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                         new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
                 .cache();
 
-        Mono<Theme> publishThemeMono =
-                applicationMono.flatMap(application -> themeService.publishTheme(application.getId()));
+        Mono<Theme> publishThemeMono = applicationMono
+                .flatMap(application -> themeService.publishTheme(application.getId()))
+                .as(mono -> timePublishPhase(mono, "theme"));
 
         Set<CustomJSLibContextDTO> updatedPublishedJSLibDTOs = new HashSet<>();
         Mono<List<ApplicationPage>> publishApplicationAndPages = applicationMono
@@ -1131,40 +1143,37 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     if (isPublishedManually) {
                         application.setLastDeployedAt(Instant.now());
                     }
-                    Mono<Void> publishPagesMono =
-                            newPageService.publishPages(editedPageIds, pagePermission.getEditPermission());
+                    Mono<Integer> publishPagesMono = newPageService
+                            .publishPages(editedPageIds, pagePermission.getEditPermission())
+                            .doOnNext(count -> countPublishedDocuments("page", count));
 
                     // Archive the deleted pages and save the application changes and then return the pages so that
                     // the pages can also be published
                     return Mono.when(archivePageMono, publishPagesMono, applicationService.save(application))
                             .thenReturn(pages);
                 })
+                .as(mono -> timePublishPhase(mono, "application_and_pages"))
                 .cache(); // caching as we'll need this to send analytics attributes after publishing the app
 
-        Mono<Void> publishActionsMono =
-                newActionService.publishActions(applicationId, actionPermission.getEditPermission());
+        Mono<Integer> publishActionsMono = newActionService
+                .publishActions(applicationId, actionPermission.getEditPermission())
+                .doOnNext(count -> countPublishedDocuments("action", count))
+                .as(mono -> timePublishPhase(mono, "actions"));
 
         // this is a map of pluginType to count of actions for that pluginType, required for analytics
         Mono<Map<PluginType, Integer>> actionCountByPluginTypeMapMono = newActionService
                 .countActionsByPluginType(applicationId)
                 .collectMap(PluginTypeAndCountDTO::getPluginType, PluginTypeAndCountDTO::getCount);
 
-        Mono<List<ActionCollection>> publishedActionCollectionsListMono = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission(), null)
-                .flatMap(collection -> {
-                    // If the collection was deleted in edit mode, now this can be safely deleted from the repository
-                    if (collection.getUnpublishedCollection().getDeletedAt() != null) {
-                        return actionCollectionService
-                                .archiveById(collection.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the collection by copying the unpublished collectionDTO to published collectionDTO
-                    collection.setPublishedCollection(collection.getUnpublishedCollection());
-                    return Mono.just(collection);
-                })
-                .flatMap(actionCollectionService::save)
-                .collectList()
-                .cache(); // caching because it's needed to send analytics attributes after publishing the app
+        Mono<Integer> publishActionCollectionsMono = actionCollectionService
+                .publishActionCollections(applicationId, actionPermission.getEditPermission())
+                .doOnNext(count -> countPublishedDocuments("action_collection", count))
+                .as(mono -> timePublishPhase(mono, "action_collections"));
+
+        // The collections deleted in edit mode have been archived by now, so all the remaining ones are published
+        Mono<Long> publishedActionCollectionCountMono = actionCollectionRepository
+                .countByApplicationIdAndViewMode(applicationId, false, actionPermission.getEditPermission())
+                .cache();
 
         ApplicationPublishingMetaDTO applicationPublishingMetaDTO = ApplicationPublishingMetaDTO.builder()
                 .applicationId(applicationId)
@@ -1172,15 +1181,26 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .applicationPagesMono(publishApplicationAndPages)
                 .updatedPublishedJSLibDTOsMono(Mono.just(updatedPublishedJSLibDTOs))
                 .actionCountByPluginTypeMapMono(actionCountByPluginTypeMapMono)
-                .publishedActionCollectionsListMono(publishedActionCollectionsListMono)
+                .publishedActionCollectionCountMono(publishedActionCollectionCountMono)
                 .build();
 
         return publishApplicationAndPages
-                .flatMap(
-                        newPages -> Mono.when(publishActionsMono, publishedActionCollectionsListMono, publishThemeMono))
+                .flatMap(newPages -> Mono.when(publishActionsMono, publishActionCollectionsMono, publishThemeMono))
                 .then(Mono.just(Tuples.of(applicationMono, applicationPublishingMetaDTO)));
     }
 
+    private <T> Mono<T> timePublishPhase(Mono<T> phaseMono, String phase) {
+        return Mono.defer(() -> {
+            final long startNanos = System.nanoTime();
+            return phaseMono.doFinally(signalType -> Metrics.timer(PUBLISH_PHASE_TIMER_NAME, "phase", phase)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static void countPublishedDocuments(String entity, int count) {
+        Metrics.counter(PUBLISHED_DOCUMENTS_COUNTER_NAME, "entity", entity).increment(count);
+    }
+
     private int getActionCount(Map<PluginType, Integer> pluginTypeCollectionMap, PluginType pluginType) {
         if (pluginTypeCollectionMap.containsKey(pluginType)) {
             return pluginTypeCollectionMap.get(pluginType);
@@ -1192,8 +1212,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
 
         Mono<List<ApplicationPage>> publishApplicationAndPages = publishingMetaDTO.getApplicationPagesMono();
         Mono<Map<PluginType, Integer>> publishedActionsFlux = publishingMetaDTO.getActionCountByPluginTypeMapMono();
-        Mono<List<ActionCollection>> publishedActionsCollectionFlux =
-                publishingMetaDTO.getPublishedActionCollectionsListMono();
+        Mono<Long> publishedActionCollectionCountMono = publishingMetaDTO.getPublishedActionCollectionCountMono();
         Mono<Set<CustomJSLibContextDTO>> publishedJSLibDTOsMono = publishingMetaDTO.getUpdatedPublishedJSLibDTOsMono();
         String applicationId = publishingMetaDTO.getApplicationId();
         boolean isPublishedManually = publishingMetaDTO.isPublishedManually();
@@ -1203,7 +1222,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
         return Mono.zip(
                         publishApplicationAndPages,
                         publishedActionsFlux,
-                        publishedActionsCollectionFlux,
+                        publishedActionCollectionCountMono,
                         // not using existing applicationMono because we need the latest Application after published
                         applicationService.findById(applicationId, applicationPermission.getEditPermission()),
                         publishedJSLibDTOsMono,
@@ -1234,7 +1253,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     extraProperties.put(
                             "queryCount",
                             (dbQueryCount + apiCount + jsFuncCount + saasQueryCount + remoteQueryCount + aiQueryCount));
-                    extraProperties.put("actionCollectionCount", objects.getT3().size());
+                    extraProperties.put("actionCollectionCount", objects.getT3());
                     extraProperties.put("jsLibsCount", objects.getT5().size());
                     extraProperties.put("appId", defaultIfNull(application.getId(), ""));
                     extraProperties.put("appName", defaultIfNull(application.getName(), ""));
@@ -6,6 +6,7 @@ import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.AstReferencesCache;
 import com.appsmith.server.helpers.RTSCaller;
 import com.appsmith.util.WebClientUtils;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,8 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private final RTSCaller rtsCaller;
 
+    private final AstReferencesCache astReferencesCache;
+
     private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
             .maxConnections(100)
             .maxIdleTime(Duration.ofSeconds(30))
@@ -53,6 +56,11 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    // Number of bindings sent to RTS in a single bulk refactor request, and how many such requests may be in flight.
+    private static final int REFACTOR_CHUNK_SIZE = 200;
+
+    private static final int REFACTOR_CONCURRENCY = 4;
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> replaceValueInMustacheKeys(
             Set<MustacheBindingToken> mustacheKeySet,
@@ -116,6 +124,35 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
+
+        // Most bindings do not change between two layout updates, so only the ones that have not been parsed before are
+        // sent to RTS.
+        return astReferencesCache.getAll(bindingValues, evalVersion).flatMapMany(cachedReferences -> {
+            Flux<Tuple2<String, Set<String>>> cachedReferencesFlux = Flux.fromIterable(cachedReferences.entrySet())
+                    .map(entry -> Tuples.of(entry.getKey(), entry.getValue()));
+            List<String> uncachedBindingValues = bindingValues.stream()
+                    .filter(bindingValue -> !cachedReferences.containsKey(bindingValue))
+                    .distinct()
+                    .toList();
+            if (uncachedBindingValues.isEmpty()) {
+                return cachedReferencesFlux;
+            }
+
+            Flux<Tuple2<String, Set<String>>> fetchedReferencesFlux = getPossibleReferencesFromRts(
+                            uncachedBindingValues, evalVersion)
+                    .collectList()
+                    .flatMapMany(references -> {
+                        Map<String, Set<String>> referencesToCache =
+                                references.stream().collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2));
+                        return astReferencesCache
+                                .putAll(referencesToCache, evalVersion)
+                                .thenMany(Flux.fromIterable(references));
+                    });
+            return Flux.concat(cachedReferencesFlux, fetchedReferencesFlux);
+        });
+    }
+
+    private Flux<Tuple2<String, Set<String>>> getPossibleReferencesFromRts(List<String> bindingValues, int evalVersion) {
         return rtsCaller
                 .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(bindingValues, evalVersion))
                 .flatMapMany(spec -> spec.retrieve()
@@ -143,42 +180,94 @@ public class AstServiceCEImpl implements AstServiceCE {
         }
 
         return Flux.fromIterable(bindingValues)
-                .flatMap(bindingValue -> {
-                    EntityRefactorRequest entityRefactorRequest = new EntityRefactorRequest(
-                            bindingValue.getValue(), oldName, newName, evalVersion, isJSObject);
-                    return rtsCaller
-                            .post("/rts-api/v1/ast/entity-refactor", entityRefactorRequest)
-                            .flatMap(spec -> spec.retrieve().toEntity(EntityRefactorResponse.class))
-                            .flatMap(entityRefactorResponseResponseEntity -> {
-                                if (HttpStatus.OK.equals(entityRefactorResponseResponseEntity.getStatusCode())) {
-                                    return Mono.just(
-                                            Objects.requireNonNull(entityRefactorResponseResponseEntity.getBody()));
-                                }
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.RTS_SERVER_ERROR,
-                                        entityRefactorResponseResponseEntity.getStatusCodeValue()));
-                            })
-                            .elapsed()
-                            .map(tuple -> {
-                                log.debug("Time elapsed since AST refactor call: {} ms", tuple.getT1());
-                                if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
-                                    log.debug("This call took longer than expected. The binding was: {}", bindingValue);
-                                }
-                                return tuple.getT2();
-                            })
-                            .map(EntityRefactorResponse::getData)
-                            .filter(details -> details.refactorCount > 0)
-                            .flatMap(response -> Mono.just(bindingValue).zipWith(Mono.just(response.script)))
-                            .onErrorResume(error -> {
-                                // If there is a problem with parsing and refactoring this binding, we just ignore it
-                                // and move ahead
-                                // The expectation is that this binding would error out during eval anyway
-                                return Mono.empty();
-                            });
-                })
+                .buffer(REFACTOR_CHUNK_SIZE)
+                .flatMap(
+                        chunk -> refactorNameInDynamicBindingsChunk(chunk, oldName, newName, evalVersion, isJSObject),
+                        REFACTOR_CONCURRENCY)
                 .collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2));
     }
 
+    /**
+     * Refactors a chunk of bindings with a single call to RTS. The bulk endpoint reports the outcome of every binding
+     * separately, so a binding that fails to parse does not affect the others in its chunk. If the bulk call itself
+     * fails, for instance against an RTS that does not have this endpoint yet, the bindings of the chunk are refactored
+     * one at a time instead.
+     */
+    private Flux<Tuple2<MustacheBindingToken, String>> refactorNameInDynamicBindingsChunk(
+            List<MustacheBindingToken> bindingValues,
+            String oldName,
+            String newName,
+            int evalVersion,
+            boolean isJSObject) {
+        MultipleEntityRefactorRequest multipleEntityRefactorRequest = new MultipleEntityRefactorRequest(
+                bindingValues.stream().map(MustacheBindingToken::getValue).toList(),
+                oldName,
+                newName,
+                evalVersion,
+                isJSObject);
+
+        return rtsCaller
+                .post("/rts-api/v1/ast/multiple-entity-refactor", multipleEntityRefactorRequest)
+                .flatMap(spec -> spec.retrieve().bodyToMono(MultipleEntityRefactorResponse.class))
+                .elapsed()
+                .flatMapMany(tuple -> {
+                    log.debug(
+                            "Time elapsed since AST bulk refactor call of {} bindings: {} ms",
+                            bindingValues.size(),
+                            tuple.getT1());
+                    List<EntityRefactorResponseDetails> data = tuple.getT2().getData();
+                    if (data == null || data.size() != bindingValues.size()) {
+                        return Flux.error(new AppsmithException(
+                                AppsmithError.RTS_SERVER_ERROR, "Unexpected bulk refactor response"));
+                    }
+                    return Flux.range(0, data.size())
+                            .filter(index -> Boolean.TRUE.equals(data.get(index).getSuccess())
+                                    && data.get(index).getRefactorCount() > 0)
+                            .map(index -> Tuples.of(bindingValues.get(index), data.get(index).getScript()));
+                })
+                .onErrorResume(error -> {
+                    log.debug("AST bulk refactor call failed, refactoring bindings one at a time", error);
+                    return Flux.fromIterable(bindingValues)
+                            .flatMap(
+                                    bindingValue -> refactorNameInDynamicBinding(
+                                            bindingValue, oldName, newName, evalVersion, isJSObject),
+                                    REFACTOR_CONCURRENCY);
+                });
+    }
+
+    private Mono<Tuple2<MustacheBindingToken, String>> refactorNameInDynamicBinding(
+            MustacheBindingToken bindingValue, String oldName, String newName, int evalVersion, boolean isJSObject) {
+        EntityRefactorRequest entityRefactorRequest =
+                new EntityRefactorRequest(bindingValue.getValue(), oldName, newName, evalVersion, isJSObject);
+        return rtsCaller
+                .post("/rts-api/v1/ast/entity-refactor", entityRefactorRequest)
+                .flatMap(spec -> spec.retrieve().toEntity(EntityRefactorResponse.class))
+                .flatMap(entityRefactorResponseResponseEntity -> {
+                    if (HttpStatus.OK.equals(entityRefactorResponseResponseEntity.getStatusCode())) {
+                        return Mono.just(Objects.requireNonNull(entityRefactorResponseResponseEntity.getBody()));
+                    }
+                    return Mono.error(new AppsmithException(
+                            AppsmithError.RTS_SERVER_ERROR, entityRefactorResponseResponseEntity.getStatusCodeValue()));
+                })
+                .elapsed()
+                .map(tuple -> {
+                    log.debug("Time elapsed since AST refactor call: {} ms", tuple.getT1());
+                    if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
+                        log.debug("This call took longer than expected. The binding was: {}", bindingValue);
+                    }
+                    return tuple.getT2();
+                })
+                .map(EntityRefactorResponse::getData)
+                .filter(details -> details.refactorCount > 0)
+                .flatMap(response -> Mono.just(bindingValue).zipWith(Mono.just(response.script)))
+                .onErrorResume(error -> {
+                    // If there is a problem with parsing and refactoring this binding, we just ignore it
+                    // and move ahead
+                    // The expectation is that this binding would error out during eval anyway
+                    return Mono.empty();
+                });
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
@@ -249,6 +338,17 @@ public class AstServiceCEImpl implements AstServiceCE {
         Boolean isJSObject;
     }
 
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    static class MultipleEntityRefactorRequest {
+        List<String> scripts;
+        String oldName;
+        String newName;
+        int evalVersion;
+        Boolean isJSObject;
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
@@ -265,5 +365,15 @@ public class AstServiceCEImpl implements AstServiceCE {
         String script;
         int referenceCount;
         int refactorCount;
+        // Only set in the responses of the bulk refactor endpoint, which reports the outcome of every script.
+        Boolean success;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class MultipleEntityRefactorResponse {
+        List<EntityRefactorResponseDetails> data;
     }
 }
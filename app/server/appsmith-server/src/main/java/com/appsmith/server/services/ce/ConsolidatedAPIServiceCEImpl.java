@@ -3,8 +3,10 @@ package com.appsmith.server.services.ce;
 import com.appsmith.external.exceptions.ErrorDTO;
 import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.external.views.Views;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.ProjectProperties;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
@@ -12,26 +14,34 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIViewResponseDTO;
 import com.appsmith.server.dtos.MockDataDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ConsolidatedViewBundleCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.services.UserDataService;
 import com.appsmith.server.services.UserService;
 import com.appsmith.server.themes.base.ThemeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -40,14 +50,22 @@ import org.springframework.util.MultiValueMap;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.ACTIONS_SPAN;
@@ -83,6 +101,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     public static final int INTERNAL_SERVER_ERROR_STATUS = AppsmithError.INTERNAL_SERVER_ERROR.getHttpErrorCode();
     public static final String INTERNAL_SERVER_ERROR_CODE = AppsmithError.INTERNAL_SERVER_ERROR.getAppErrorCode();
     public static final String EMPTY_WORKSPACE_ID_ON_ERROR = "";
+    private static final byte[] EMPTY_JSON_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
 
     private final SessionUserService sessionUserService;
     private final UserService userService;
@@ -100,6 +119,10 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
     private final ObservationRegistry observationRegistry;
+    private final PermissionGroupService permissionGroupService;
+    private final ConsolidatedViewBundleCache consolidatedViewBundleCache;
+    private final ObjectMapper objectMapper;
+    private final ProjectProperties projectProperties;
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
         return new ResponseDTO<>(HttpStatus.OK.value(), data, null);
@@ -147,49 +170,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         /* This object will serve as a container to hold the response of this method*/
         ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO = new ConsolidatedAPIResponseDTO();
 
-        final List<Mono<?>> fetches = new ArrayList<>();
-
-        /* Get user profile data */
-        fetches.add(sessionUserService
-                .getCurrentUser()
-                .flatMap(userService::buildUserProfileDTO)
-                .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setUserProfile)
-                .name(getQualifiedSpanName(USER_PROFILE_SPAN, mode))
-                .tap(Micrometer.observation(observationRegistry)));
-
-        /* Get all feature flags data */
-        Mono<ResponseDTO<Map<String, Boolean>>> featureFlagsForCurrentUserResponseDTOMonoCache = userDataService
-                .getFeatureFlagsForCurrentUser()
-                .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setFeatureFlags)
-                .name(getQualifiedSpanName(FEATURE_FLAG_SPAN, mode))
-                .tap(Micrometer.observation(observationRegistry))
-                .cache();
-        fetches.add(featureFlagsForCurrentUserResponseDTOMonoCache);
-
-        /* Get tenant config data */
-        fetches.add(tenantService
-                .getTenantConfiguration()
-                .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setTenantConfig)
-                .name(getQualifiedSpanName(TENANT_SPAN, mode))
-                .tap(Micrometer.observation(observationRegistry)));
-
-        /* Get any product alert info */
-        fetches.add(productAlertService
-                .getSingleApplicableMessage()
-                .map(messages -> {
-                    if (!messages.isEmpty()) {
-                        return messages.get(0);
-                    }
-
-                    return new ProductAlertResponseDTO();
-                })
-                .as(this::toResponseDTO)
-                .doOnSuccess(consolidatedAPIResponseDTO::setProductAlert)
-                .name(getQualifiedSpanName(PRODUCT_ALERT_SPAN, mode))
-                .tap(Micrometer.observation(observationRegistry)));
+        final List<Mono<?>> fetches = new ArrayList<>(getUserAndTenantFetches(consolidatedAPIResponseDTO, mode));
 
         if (isBlank(defaultPageId) && isBlank(applicationId)) {
             return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
@@ -431,6 +412,191 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
     }
 
+    /**
+     * Returns the same data as {@link #getConsolidatedInfoForPageLoad} does in view mode, serialized, along with an
+     * entity tag of the data.
+     * <p>
+     * The application scoped part of the response is only computed once per version of the application, set of
+     * permission groups and state of the feature flags, and is then served from {@link ConsolidatedViewBundleCache}. Only the user and tenant scoped
+     * part is fetched on every request and merged into it.
+     */
+    @Override
+    public Mono<ConsolidatedAPIViewResponseDTO> getConsolidatedInfoForViewModePageLoad(
+            String defaultPageId, String applicationId, String branchName) {
+        final ApplicationMode mode = ApplicationMode.PUBLISHED;
+        final Mono<ConsolidatedAPIViewResponseDTO> uncachedResponseMono = Mono.defer(
+                () -> getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, mode)
+                        .flatMap(responseDTO ->
+                                Mono.fromCallable(() -> toViewResponse(serialize(responseDTO), EMPTY_JSON_OBJECT))));
+
+        if (!consolidatedViewBundleCache.isEnabled() || (isBlank(defaultPageId) && isBlank(applicationId))) {
+            return uncachedResponseMono;
+        }
+
+        Mono<String> applicationIdMono = isBlank(applicationId)
+                ? newPageService.findRootApplicationIdFromNewPage(branchName, defaultPageId)
+                : Mono.just(applicationId);
+
+        // Any failure to resolve the application is left to the uncached flow, which reports it the usual way
+        Mono<String> bundleKeyMono = Mono.zip(
+                        applicationIdMono.flatMap(defaultApplicationId ->
+                                applicationService.findByDefaultIdBranchNameAndApplicationMode(
+                                        defaultApplicationId, branchName, mode)),
+                        permissionGroupService.getSessionUserPermissionGroupIds(),
+                        userDataService.getFeatureFlagsForCurrentUser())
+                .map(tuple3 -> getViewBundleKey(tuple3.getT1(), defaultPageId, tuple3.getT2(), tuple3.getT3()))
+                .onErrorResume(error -> Mono.empty());
+
+        return bundleKeyMono
+                .flatMap(bundleKey -> consolidatedViewBundleCache
+                        .get(bundleKey)
+                        .flatMap(bundle -> {
+                            ConsolidatedAPIResponseDTO userAndTenantData = new ConsolidatedAPIResponseDTO();
+                            return Mono.when(getUserAndTenantFetches(userAndTenantData, mode))
+                                    .then(Mono.fromCallable(
+                                            () -> toViewResponse(bundle, serialize(userAndTenantData))));
+                        })
+                        .switchIfEmpty(Mono.defer(() -> getConsolidatedInfoForPageLoad(
+                                        defaultPageId, applicationId, branchName, mode)
+                                .flatMap(responseDTO -> cacheViewBundle(bundleKey, responseDTO)))))
+                .switchIfEmpty(uncachedResponseMono);
+    }
+
+    /**
+     * Splits a freshly computed view mode response into its application scoped part, which is cached if it was
+     * computed without errors, and its user and tenant scoped part.
+     */
+    private Mono<ConsolidatedAPIViewResponseDTO> cacheViewBundle(
+            String bundleKey, ConsolidatedAPIResponseDTO responseDTO) {
+        ConsolidatedAPIResponseDTO userAndTenantData = new ConsolidatedAPIResponseDTO();
+        moveUserAndTenantData(responseDTO, userAndTenantData);
+
+        return Mono.fromCallable(() -> Tuples.of(serialize(responseDTO), serialize(userAndTenantData)))
+                .flatMap(serialized -> {
+                    Mono<Void> cacheMono = isSuccessfulResponse(responseDTO)
+                            ? consolidatedViewBundleCache.put(bundleKey, serialized.getT1())
+                            : Mono.empty();
+                    return cacheMono.then(
+                            Mono.fromCallable(() -> toViewResponse(serialized.getT1(), serialized.getT2())));
+                });
+    }
+
+    /**
+     * Moves the data that is set by {@link #getUserAndTenantFetches} from one response to another.
+     */
+    protected void moveUserAndTenantData(ConsolidatedAPIResponseDTO source, ConsolidatedAPIResponseDTO target) {
+        target.setUserProfile(source.getUserProfile());
+        target.setFeatureFlags(source.getFeatureFlags());
+        target.setTenantConfig(source.getTenantConfig());
+        target.setProductAlert(source.getProductAlert());
+
+        source.setUserProfile(null);
+        source.setFeatureFlags(null);
+        source.setTenantConfig(null);
+        source.setProductAlert(null);
+    }
+
+    private static boolean isSuccessfulResponse(ConsolidatedAPIResponseDTO responseDTO) {
+        return Stream.of(
+                        responseDTO.getPages(),
+                        responseDTO.getCurrentTheme(),
+                        responseDTO.getThemes(),
+                        responseDTO.getCustomJSLibraries(),
+                        responseDTO.getPageWithMigratedDsl(),
+                        responseDTO.getPublishedActions(),
+                        responseDTO.getPublishedActionCollections())
+                .allMatch(fetchResponse -> fetchResponse == null
+                        || (fetchResponse.getResponseMeta() != null
+                                && fetchResponse.getResponseMeta().isSuccess()));
+    }
+
+    private String getViewBundleKey(
+            Application application,
+            String defaultPageId,
+            Set<String> permissionGroupIds,
+            Map<String, Boolean> featureFlags) {
+        // The DSL migrations applied to the pages depend on the server build and on the tenant and user feature flags,
+        // hence both are part of the version
+        return ConsolidatedViewBundleCache.getKey(
+                application.getId(),
+                Objects.toString(defaultPageId, ""),
+                Objects.toString(application.getLastDeployedAt()),
+                Objects.toString(application.getUpdatedAt()),
+                String.join(",", new TreeSet<>(permissionGroupIds)),
+                new TreeMap<>(featureFlags).toString(),
+                projectProperties.getVersion(),
+                projectProperties.getCommitSha());
+    }
+
+    private byte[] serialize(ConsolidatedAPIResponseDTO responseDTO) throws JsonProcessingException {
+        return objectMapper.writerWithView(Views.Public.class).writeValueAsBytes(responseDTO);
+    }
+
+    private ConsolidatedAPIViewResponseDTO toViewResponse(byte[] applicationData, byte[] userAndTenantData)
+            throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        digest.update(applicationData);
+        digest.update(userAndTenantData);
+
+        ObjectNode data = (ObjectNode) objectMapper.readTree(applicationData);
+        data.setAll((ObjectNode) objectMapper.readTree(userAndTenantData));
+
+        return new ConsolidatedAPIViewResponseDTO(Hex.encodeHexString(digest.digest()), data);
+    }
+
+    /**
+     * Fetches the part of the page load data that does not depend on the application being loaded: the user profile,
+     * feature flags, tenant configuration and product alert.
+     */
+    protected List<Mono<?>> getUserAndTenantFetches(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO, ApplicationMode mode) {
+        final List<Mono<?>> fetches = new ArrayList<>();
+
+        /* Get user profile data */
+        fetches.add(sessionUserService
+                .getCurrentUser()
+                .flatMap(userService::buildUserProfileDTO)
+                .as(this::toResponseDTO)
+                .doOnSuccess(consolidatedAPIResponseDTO::setUserProfile)
+                .name(getQualifiedSpanName(USER_PROFILE_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        /* Get all feature flags data */
+        Mono<ResponseDTO<Map<String, Boolean>>> featureFlagsForCurrentUserResponseDTOMonoCache = userDataService
+                .getFeatureFlagsForCurrentUser()
+                .as(this::toResponseDTO)
+                .doOnSuccess(consolidatedAPIResponseDTO::setFeatureFlags)
+                .name(getQualifiedSpanName(FEATURE_FLAG_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry))
+                .cache();
+        fetches.add(featureFlagsForCurrentUserResponseDTOMonoCache);
+
+        /* Get tenant config data */
+        fetches.add(tenantService
+                .getTenantConfiguration()
+                .as(this::toResponseDTO)
+                .doOnSuccess(consolidatedAPIResponseDTO::setTenantConfig)
+                .name(getQualifiedSpanName(TENANT_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        /* Get any product alert info */
+        fetches.add(productAlertService
+                .getSingleApplicableMessage()
+                .map(messages -> {
+                    if (!messages.isEmpty()) {
+                        return messages.get(0);
+                    }
+
+                    return new ProductAlertResponseDTO();
+                })
+                .as(this::toResponseDTO)
+                .doOnSuccess(consolidatedAPIResponseDTO::setProductAlert)
+                .name(getQualifiedSpanName(PRODUCT_ALERT_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        return fetches;
+    }
+
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
         return PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE.contains(plugin.getPackageName());
     }
@@ -20,14 +20,23 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -38,6 +47,8 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     protected final Map<DatasourceContextIdentifier, Mono<DatasourceContext<Object>>> datasourceContextMonoMap;
     protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
+    // Plugin and last access time of every context in datasourceContextMap, used to evict idle or excess contexts
+    protected final Map<DatasourceContextIdentifier, DatasourceContextUsage> datasourceContextUsageMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginService pluginService;
@@ -48,6 +59,21 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
 
+    private static final String LIVE_CONTEXTS_METRIC = "appsmith.datasource.contexts.live";
+    private static final String EVICTED_CONTEXTS_METRIC = "appsmith.datasource.contexts.evicted";
+    private static final String EVICTION_REASON_IDLE = "idle";
+    private static final String EVICTION_REASON_CAPACITY = "capacity";
+
+    private final Set<String> pluginsWithLiveContextsGauge = ConcurrentHashMap.newKeySet();
+
+    // Contexts that have not been used for this long are destroyed. Zero or less disables idle eviction.
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:60}")
+    protected long datasourceContextIdleTimeoutMinutes;
+
+    // Maximum number of cached contexts, across all datasources. Zero or less disables the limit.
+    @Value("${appsmith.datasource.context.max-count:1000}")
+    protected int maxDatasourceContextCount;
+
     @Autowired
     public DatasourceContextServiceCEImpl(
             @Lazy DatasourceService datasourceService,
@@ -63,6 +89,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
         this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
+        this.datasourceContextUsageMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
     }
@@ -93,6 +120,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceContextIdentifier datasourceContextIdentifier) {
 
         return Mono.fromCallable(() -> {
+                    final Mono<DatasourceContext<Object>> datasourceContextMono;
                     synchronized (monitor) {
                         /* Destroy any connection that is stale or in error state to free up resource */
                         final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
@@ -115,6 +143,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                             }
                             datasourceContextMonoMap.remove(datasourceContextIdentifier);
                             datasourceContextMap.remove(datasourceContextIdentifier);
+                            datasourceContextUsageMap.remove(datasourceContextIdentifier);
                         }
 
                         /*
@@ -129,15 +158,22 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                                             + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
                                     datasourceContextIdentifier.getDatasourceId(),
                                     datasourceContextIdentifier.getEnvironmentId());
+                            touchDatasourceContext(datasourceContextIdentifier);
                             return datasourceContextMonoMap.get(datasourceContextIdentifier);
                         }
 
                         /* Create a fresh datasource context */
                         DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                        final DatasourceContextUsage usage;
                         if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
                             /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
                             the new connection in the context map. */
                             datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+                            usage = new DatasourceContextUsage(pluginExecutor, plugin.getPackageName());
+                            datasourceContextUsageMap.put(datasourceContextIdentifier, usage);
+                            registerLiveContextsGauge(usage.getPluginName());
+                        } else {
+                            usage = null;
                         }
 
                         Mono<Object> connectionMonoCache = pluginExecutor
@@ -157,6 +193,12 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                                         /* When a connection object doesn't make sense for the plugin, we get an empty mono
                                         and we just return the context object as is. */
                                         datasourceContext)
+                                .doOnTerminate(() -> {
+                                    // From here on, eviction can see and destroy the connection of this context
+                                    if (usage != null) {
+                                        usage.markConnectionSettled();
+                                    }
+                                })
                                 .cache(); /* Cache the value so that further evaluations don't result in new connections */
 
                         if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
@@ -167,8 +209,15 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                                         + ": Cached new datasource context for datasource id {}, environment id {}",
                                 datasourceContextIdentifier.getDatasourceId(),
                                 datasourceContextIdentifier.getEnvironmentId());
-                        return datasourceContextMonoCache;
+                        datasourceContextMono = datasourceContextMonoCache;
                     }
+
+                    /*
+                     * Runs outside the monitor of this datasource, since evicting another context needs to take that
+                     * context's monitor.
+                     */
+                    evictDatasourceContextsOverCapacity(datasourceContextIdentifier);
+                    return datasourceContextMono;
                 })
                 .flatMap(obj -> obj)
                 .subscribeOn(Schedulers.boundedElastic());
@@ -308,6 +357,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
+                touchDatasourceContext(datasourceContextIdentifier);
                 return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
             }
         }
@@ -399,6 +449,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
                     pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
                     datasourceContextMonoMap.remove(datasourceContextIdentifier);
+                    datasourceContextUsageMap.remove(datasourceContextIdentifier);
 
                     if (!datasourceContextMap.containsKey(datasourceContextIdentifier)) {
                         log.info(
@@ -411,6 +462,119 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 });
     }
 
+    private void touchDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier) {
+        final DatasourceContextUsage usage = datasourceContextUsageMap.get(datasourceContextIdentifier);
+        if (usage != null) {
+            usage.touch();
+        }
+    }
+
+    /**
+     * Destroys the connection of every cached datasource context that has not been used for longer than the
+     * configured idle timeout, so that rarely used datasources do not hold on to a connection pool forever.
+     */
+    @Scheduled(initialDelay = 5 * 60 * 1000 /* five minutes */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        if (datasourceContextIdleTimeoutMinutes <= 0) {
+            return;
+        }
+
+        final long idleSince = System.currentTimeMillis()
+                - Duration.ofMinutes(datasourceContextIdleTimeoutMinutes).toMillis();
+        datasourceContextUsageMap.forEach((datasourceContextIdentifier, usage) -> {
+            if (usage.getLastAccessedAt() < idleSince) {
+                evictDatasourceContext(datasourceContextIdentifier, idleSince, EVICTION_REASON_IDLE);
+            }
+        });
+    }
+
+    /**
+     * When more contexts are cached than the configured maximum, destroys the least recently used ones. The context
+     * identified by `retainedIdentifier` has just been created and is never evicted here, and neither is any context
+     * whose connection is still being created.
+     */
+    protected void evictDatasourceContextsOverCapacity(DatasourceContextIdentifier retainedIdentifier) {
+        if (maxDatasourceContextCount <= 0) {
+            return;
+        }
+
+        final int excessCount = datasourceContextUsageMap.size() - maxDatasourceContextCount;
+        if (excessCount <= 0) {
+            return;
+        }
+
+        final List<Map.Entry<DatasourceContextIdentifier, Long>> leastRecentlyUsed =
+                datasourceContextUsageMap.entrySet().stream()
+                        .filter(entry -> !entry.getKey().equals(retainedIdentifier))
+                        .filter(entry -> !entry.getValue().isConnectionPending())
+                        .map(entry -> Map.entry(
+                                entry.getKey(), entry.getValue().getLastAccessedAt()))
+                        .sorted(Map.Entry.comparingByValue())
+                        .limit(excessCount)
+                        .toList();
+
+        for (Map.Entry<DatasourceContextIdentifier, Long> entry : leastRecentlyUsed) {
+            evictDatasourceContext(entry.getKey(), entry.getValue(), EVICTION_REASON_CAPACITY);
+        }
+    }
+
+    /**
+     * Removes the context from the context maps and destroys its connection, unless the context has been used after
+     * `lastAccessedAtOrBefore` in the meantime. A context whose connection is still being created is left alone, as
+     * its connection would only be set after it has been removed from the maps, and would then never be destroyed.
+     */
+    private void evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, long lastAccessedAtOrBefore, String reason) {
+        final Object monitor =
+                datasourceContextSynchronizationMonitorMap.computeIfAbsent(datasourceContextIdentifier, k -> new Object());
+
+        synchronized (monitor) {
+            final DatasourceContextUsage usage = datasourceContextUsageMap.get(datasourceContextIdentifier);
+            if (usage == null
+                    || usage.isConnectionPending()
+                    || usage.getLastAccessedAt() > lastAccessedAtOrBefore) {
+                return;
+            }
+
+            datasourceContextUsageMap.remove(datasourceContextIdentifier);
+            datasourceContextMonoMap.remove(datasourceContextIdentifier);
+            final DatasourceContext<?> datasourceContext = datasourceContextMap.remove(datasourceContextIdentifier);
+
+            log.debug(
+                    "Evicting {} datasource context for datasource id {}, environment id {}",
+                    reason,
+                    datasourceContextIdentifier.getDatasourceId(),
+                    datasourceContextIdentifier.getEnvironmentId());
+            Metrics.counter(EVICTED_CONTEXTS_METRIC, "plugin", usage.getPluginName(), "reason", reason)
+                    .increment();
+
+            if (datasourceContext != null && datasourceContext.getConnection() != null) {
+                try {
+                    usage.getPluginExecutor().datasourceDestroy(datasourceContext.getConnection());
+                } catch (Exception e) {
+                    log.info(
+                            Thread.currentThread().getName() + ": Error destroying evicted datasource connection", e);
+                }
+            }
+        }
+    }
+
+    private void registerLiveContextsGauge(String pluginName) {
+        if (!pluginsWithLiveContextsGauge.add(pluginName)) {
+            return;
+        }
+
+        Gauge.builder(
+                        LIVE_CONTEXTS_METRIC,
+                        datasourceContextUsageMap,
+                        usageMap -> usageMap.values().stream()
+                                .filter(usage -> pluginName.equals(usage.getPluginName()))
+                                .count())
+                .description("Number of cached datasource contexts, and so of open connection pools, per plugin")
+                .tag("plugin", pluginName)
+                .register(Metrics.globalRegistry);
+    }
+
     /**
      * Provides datasource context for execution
      *
@@ -457,4 +621,30 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     public DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage) {
         return new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), FieldName.UNUSED_ENVIRONMENT_ID);
     }
+
+    /**
+     * Which plugin a cached datasource context belongs to, when it was last handed out for an execution, and whether
+     * its connection is still being created.
+     */
+    @Getter
+    protected static class DatasourceContextUsage {
+        private final PluginExecutor<Object> pluginExecutor;
+        private final String pluginName;
+        private volatile long lastAccessedAt;
+        private volatile boolean isConnectionPending = true;
+
+        DatasourceContextUsage(PluginExecutor<Object> pluginExecutor, String pluginName) {
+            this.pluginExecutor = pluginExecutor;
+            this.pluginName = Objects.requireNonNullElse(pluginName, "unknown");
+            this.lastAccessedAt = System.currentTimeMillis();
+        }
+
+        void touch() {
+            lastAccessedAt = System.currentTimeMillis();
+        }
+
+        void markConnectionSettled() {
+            isConnectionPending = false;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.server.configurations.CachingRedisSessionRepository;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -125,6 +126,23 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
                 ? Mono.just(0L)
                 : redisOperations
                         .delete(keys.toArray(String[]::new))
-                        .doOnError(error -> log.error("Error clearing user sessions", error));
+                        .doOnError(error -> log.error("Error clearing user sessions", error))
+                        .flatMap(deletedCount -> invalidateCachedSessions(keys).thenReturn(deletedCount));
+    }
+
+    /**
+     * Tells all servers to drop these sessions from their in-process session cache, if they have one.
+     */
+    private Mono<Void> invalidateCachedSessions(List<String> keys) {
+        return Flux.fromIterable(keys)
+                .filter(key -> key.startsWith(CachingRedisSessionRepository.SESSION_KEY_PREFIX))
+                .map(key -> key.substring(CachingRedisSessionRepository.SESSION_KEY_PREFIX.length()))
+                .flatMap(sessionId ->
+                        redisOperations.convertAndSend(CachingRedisSessionRepository.INVALIDATION_CHANNEL, sessionId))
+                .onErrorResume(error -> {
+                    log.warn("Failed to publish invalidation of cleared user sessions", error);
+                    return Mono.empty();
+                })
+                .then();
     }
 }
@@ -8,6 +8,7 @@ import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.ThemeRepository;
 import com.appsmith.server.solutions.ce.PolicySolutionCEImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,7 +23,8 @@ public class PolicySolutionImpl extends PolicySolutionCEImpl implements PolicySo
             ThemeRepository themeRepository,
             DatasourcePermission datasourcePermission,
             ApplicationPermission applicationPermission,
-            PagePermission pagePermission) {
+            PagePermission pagePermission,
+            @Value("${appsmith.policy.update-batch-size:500}") int policyUpdateBatchSize) {
         super(
                 policyGenerator,
                 applicationRepository,
@@ -33,6 +35,7 @@ public class PolicySolutionImpl extends PolicySolutionCEImpl implements PolicySo
                 themeRepository,
                 datasourcePermission,
                 applicationPermission,
-                pagePermission);
+                pagePermission,
+                policyUpdateBatchSize);
     }
 }
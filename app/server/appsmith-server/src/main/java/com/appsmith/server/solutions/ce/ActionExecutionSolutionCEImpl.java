@@ -77,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -752,6 +753,10 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                         AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR, actionDTO.getName(), timeoutDuration);
             } else if (error instanceof StaleConnectionException e) {
                 return new AppsmithPluginException(AppsmithPluginError.STALE_CONNECTION_ERROR, e.getMessage());
+            } else if (error instanceof RejectedExecutionException) {
+                // The scheduler of the plugin has no free thread and its queue is full as well
+                return new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTION_QUEUE_FULL, actionDTO.getName(), error.getMessage());
             } else {
                 log.debug(
                         "{}: In the action execution error mode.",
@@ -1,16 +1,11 @@
 package com.appsmith.server.solutions.ce;
 
 import com.appsmith.external.models.BaseDomain;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
-import com.appsmith.server.domains.Theme;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.Set;
@@ -25,19 +20,19 @@ public interface PolicySolutionCE {
     Map<String, Policy> generatePolicyFromPermissionWithPermissionGroup(
             AclPermission permission, String permissionGroupId);
 
-    Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(
+    Mono<Long> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(
             Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject);
 
-    Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(
+    Mono<Long> updateWithApplicationPermissionsToAllItsPages(
             String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject);
 
-    Flux<Theme> updateThemePolicies(
+    Mono<Long> updateThemePolicies(
             Application application, Map<String, Policy> themePolicyMap, boolean addPolicyToObject);
 
-    Flux<NewAction> updateWithPagePermissionsToAllItsActions(
+    Mono<Long> updateWithPagePermissionsToAllItsActions(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
 
-    Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(
+    Mono<Long> updateWithPagePermissionsToAllItsActionCollections(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
 
     Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(
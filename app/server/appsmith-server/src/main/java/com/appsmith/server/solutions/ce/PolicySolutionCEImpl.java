@@ -5,6 +5,7 @@ import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.NewAction;
@@ -12,27 +13,33 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.dtos.Permission;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
+import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.ActionCollectionRepository;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.ThemeRepository;
+import com.appsmith.server.repositories.ce.params.QueryAllParams;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.PagePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -52,6 +59,7 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
     private final DatasourcePermission datasourcePermission;
     private final ApplicationPermission applicationPermission;
     private final PagePermission pagePermission;
+    private final int policyUpdateBatchSize;
 
     @Override
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
@@ -154,49 +162,33 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
     }
 
     @Override
-    public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(
+    public Mono<Long> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(
             Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
 
-        // Find all the datasources without permission to update the policies.
-        return datasourceRepository
-                .findByIdIn(List.copyOf(ids))
-                .switchIfEmpty(Mono.empty())
-                .flatMap(datasource -> {
-                    Datasource updatedDatasource;
-                    if (addPolicyToObject) {
-                        updatedDatasource = addPoliciesToExistingObject(datasourcePolicyMap, datasource);
-                    } else {
-                        updatedDatasource = removePoliciesFromExistingObject(datasourcePolicyMap, datasource);
-                    }
-
-                    return Mono.just(updatedDatasource);
-                })
-                .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+        // Update all the datasources without permission.
+        return updatePolicies(
+                Datasource.class,
+                datasourceRepository.queryBuilder().criteria(Bridge.in(FieldName.ID, ids)),
+                datasourcePolicyMap,
+                addPolicyToObject);
     }
 
-    public Flux<Application> updateWithNewPoliciesToApplicationsByWorkspaceId(
+    public Mono<Long> updateWithNewPoliciesToApplicationsByWorkspaceId(
             String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
 
-        return applicationRepository
-                // fetch applications with read permissions so that app viewers can invite other app viewers
-                .findByWorkspaceId(workspaceId, applicationPermission.getReadPermission())
-                // In case we have come across an application for this workspace that the current user is not allowed to
-                // manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(application -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newAppPoliciesMap, application);
-                    } else {
-                        return removePoliciesFromExistingObject(newAppPoliciesMap, application);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedApplications -> applicationRepository.saveAll(updatedApplications));
+        return updatePolicies(
+                Application.class,
+                applicationRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(Application.Fields.workspaceId, workspaceId))
+                        // update applications with read permissions so that app viewers can invite other app viewers
+                        .permission(applicationPermission.getReadPermission()),
+                newAppPoliciesMap,
+                addPolicyToObject);
     }
 
     @Override
-    public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(
+    public Mono<Long> updateWithApplicationPermissionsToAllItsPages(
             String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
 
         // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures
@@ -206,44 +198,39 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
         // in published app but has been deleted in the edit mode]. This means that we don't have to do any special
         // treatment
         // during deployment of the application to handle edge cases.
-        return newPageRepository
-                // fetch pages with read permissions so that app viewers can invite other app viewers
-                .findByApplicationId(applicationId, pagePermission.getReadPermission())
-                .switchIfEmpty(Mono.empty())
-                .map(page -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPagePoliciesMap, page);
-                    } else {
-                        return removePoliciesFromExistingObject(newPagePoliciesMap, page);
-                    }
-                })
-                .collectList()
-                .flatMapMany(updatedPages -> newPageRepository.saveAll(updatedPages));
+        return updatePolicies(
+                NewPage.class,
+                newPageRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewPage.Fields.applicationId, applicationId))
+                        // update pages with read permissions so that app viewers can invite other app viewers
+                        .permission(pagePermission.getReadPermission()),
+                newPagePoliciesMap,
+                addPolicyToObject);
     }
 
     @Override
-    public Flux<Theme> updateThemePolicies(
+    public Mono<Long> updateThemePolicies(
             Application application, Map<String, Policy> themePolicyMap, boolean addPolicyToObject) {
-        Flux<Theme> applicationThemes = themeRepository.getApplicationThemes(application.getId(), READ_THEMES);
+        List<BridgeQuery<Theme>> applicationThemes = new ArrayList<>();
+        applicationThemes.add(Bridge.equal(Theme.Fields.applicationId, application.getId()));
         if (StringUtils.hasLength(application.getEditModeThemeId())) {
-            applicationThemes = applicationThemes.concatWith(
-                    themeRepository.findById(application.getEditModeThemeId(), READ_THEMES));
+            applicationThemes.add(Bridge.equal(FieldName.ID, application.getEditModeThemeId()));
         }
         if (StringUtils.hasLength(application.getPublishedModeThemeId())) {
-            applicationThemes = applicationThemes.concatWith(
-                    themeRepository.findById(application.getPublishedModeThemeId(), READ_THEMES));
+            applicationThemes.add(Bridge.equal(FieldName.ID, application.getPublishedModeThemeId()));
         }
-        return applicationThemes
-                .filter(theme -> !theme.isSystemTheme()) // skip the system themes
-                .map(theme -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(themePolicyMap, theme);
-                    } else {
-                        return removePoliciesFromExistingObject(themePolicyMap, theme);
-                    }
-                })
-                .collectList()
-                .flatMapMany(themeRepository::saveAll);
+        return updatePolicies(
+                Theme.class,
+                themeRepository
+                        .queryBuilder()
+                        .criteria(Bridge.and(
+                                Bridge.or(applicationThemes),
+                                // skip the system themes
+                                Bridge.isFalse(Theme.Fields.isSystemTheme)))
+                        .permission(READ_THEMES),
+                themePolicyMap,
+                addPolicyToObject);
     }
 
     /**
@@ -259,39 +246,59 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
      * @return
      */
     @Override
-    public Flux<NewAction> updateWithPagePermissionsToAllItsActions(
+    public Mono<Long> updateWithPagePermissionsToAllItsActions(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
 
-        return newActionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
-                .collectList()
-                .flatMapMany(newActionRepository::saveAll);
+        return updatePolicies(
+                NewAction.class,
+                newActionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId)),
+                newActionPoliciesMap,
+                addPolicyToObject);
     }
 
     @Override
-    public Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(
+    public Mono<Long> updateWithPagePermissionsToAllItsActionCollections(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
 
-        return actionCollectionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
+        return updatePolicies(
+                ActionCollection.class,
+                actionCollectionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(ActionCollection.Fields.applicationId, applicationId)),
+                newActionPoliciesMap,
+                addPolicyToObject);
+    }
+
+    /**
+     * Propagates the policies to all the documents matched by the query with bulk updates on the database, instead of
+     * loading and saving back every document, in batches of {@code policyUpdateBatchSize}. Progress is logged per
+     * batch, and the number of documents updated is counted in the {@code appsmith.policy.propagation.documents}
+     * metric.
+     *
+     * @return the number of documents that were updated.
+     */
+    protected <T extends BaseDomain> Mono<Long> updatePolicies(
+            Class<T> domainClass, QueryAllParams<T> query, Map<String, Policy> policyMap, boolean addPolicyToObject) {
+        final String domainName = domainClass.getSimpleName();
+        final Counter documentsCounter = Metrics.counter(
+                "appsmith.policy.propagation.documents",
+                "domain",
+                domainName,
+                "operation",
+                addPolicyToObject ? "add" : "remove");
+        final AtomicLong documentsUpdated = new AtomicLong();
+
+        return query.updatePolicies(policyMap, addPolicyToObject, policyUpdateBatchSize)
+                .doOnNext(batchCount -> {
+                    documentsCounter.increment(batchCount);
+                    log.debug(
+                            "Updated policies of {} {} documents so far",
+                            documentsUpdated.addAndGet(batchCount),
+                            domainName);
                 })
-                .collectList()
-                .flatMapMany(actionCollectionRepository::saveAll);
+                .then(Mono.fromSupplier(documentsUpdated::get));
     }
 
     @Override
@@ -0,0 +1,151 @@
+package com.appsmith.server.configurations;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class CachingRedisSessionRepositoryTest {
+
+    @Autowired
+    ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    private CachingRedisSessionRepository repository;
+
+    private CachingRedisSessionRepository otherReplicaRepository;
+
+    @BeforeEach
+    public void setUp() throws InterruptedException {
+        repository = createRepository();
+        otherReplicaRepository = createRepository();
+        // Give the subscriptions time to be registered with Redis before anything is published
+        Thread.sleep(500);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.unsubscribeFromInvalidations();
+        otherReplicaRepository.unsubscribeFromInvalidations();
+    }
+
+    private CachingRedisSessionRepository createRepository() {
+        CachingRedisSessionRepository sessionRepository = new CachingRedisSessionRepository(
+                reactiveRedisTemplate, Duration.ofDays(30), 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        sessionRepository.subscribeToInvalidations();
+        return sessionRepository;
+    }
+
+    @Test
+    public void findById_WhenSessionSavedOnOtherReplica_ReadsItFromRedis() {
+        Mono<String> sessionIdMono = repository.createSession().flatMap(session -> {
+            session.setAttribute("name", "value");
+            return repository.save(session).thenReturn(session.getId());
+        });
+
+        StepVerifier.create(sessionIdMono.flatMap(otherReplicaRepository::findById))
+                .assertNext(session -> {
+                    assertThat(session.<String>getAttribute("name")).isEqualTo("value");
+                    assertThat(session.getMaxInactiveInterval()).isEqualTo(Duration.ofDays(30));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void findById_WhenSessionChangedOnOtherReplica_CachedCopyIsInvalidated() throws InterruptedException {
+        String sessionId = repository
+                .createSession()
+                .flatMap(session -> {
+                    session.setAttribute("name", "value");
+                    return repository.save(session).thenReturn(session.getId());
+                })
+                .block();
+
+        // Only reading the session, and touching it, must keep it cached
+        repository
+                .findById(sessionId)
+                .flatMap(session -> {
+                    session.setLastAccessedTime(Instant.now());
+                    return repository.save(session);
+                })
+                .block();
+        assertThat(otherReplicaRepository
+                        .findById(sessionId)
+                        .block()
+                        .<String>getAttribute("name"))
+                .isEqualTo("value");
+
+        otherReplicaRepository
+                .findById(sessionId)
+                .flatMap(session -> {
+                    session.setAttribute("name", "changed");
+                    return otherReplicaRepository.save(session);
+                })
+                .block();
+
+        assertThat(awaitAttribute(sessionId, "changed")).isEqualTo("changed");
+
+        otherReplicaRepository.deleteById(sessionId).block();
+
+        awaitDeleted(sessionId);
+        assertThat(repository.findById(sessionId).block()).isNull();
+    }
+
+    @Test
+    public void save_WhenSessionDeletedOnOtherReplica_DoesNotBringItBack() throws InterruptedException {
+        String sessionId = repository
+                .createSession()
+                .flatMap(session -> {
+                    session.setAttribute("name", "value");
+                    return repository.save(session).thenReturn(session.getId());
+                })
+                .block();
+
+        // A request that read the session before it was logged out of on another replica
+        CachingRedisSessionRepository.CachedSession staleSession =
+                repository.findById(sessionId).block();
+        otherReplicaRepository.deleteById(sessionId).block();
+        awaitDeleted(sessionId);
+
+        staleSession.setLastAccessedTime(Instant.now());
+        repository.save(staleSession).block();
+        assertThat(repository.findById(sessionId).block()).isNull();
+
+        staleSession.setAttribute("name", "changed");
+        StepVerifier.create(repository.save(staleSession))
+                .expectErrorMatches(error -> error instanceof IllegalStateException
+                        && "Session was invalidated".equals(error.getMessage()))
+                .verify();
+        assertThat(reactiveRedisTemplate
+                        .hasKey(CachingRedisSessionRepository.SESSION_KEY_PREFIX + sessionId)
+                        .block())
+                .isFalse();
+        assertThat(repository.findById(sessionId).block()).isNull();
+    }
+
+    private void awaitDeleted(String sessionId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (repository.findById(sessionId).block() != null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private String awaitAttribute(String sessionId, String expectedValue) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String value = repository.findById(sessionId).block().getAttribute("name");
+        while (!expectedValue.equals(value) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            value = repository.findById(sessionId).block().getAttribute("name");
+        }
+        return value;
+    }
+}
@@ -77,12 +77,14 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -366,6 +368,31 @@ public class ExportServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getArtifactFile_WhenValuesContainHtmlCharacters_WritesThemUnescaped() {
+        Application testApplication = new Application();
+        testApplication.setName("Export <raw> a=b & 'c'");
+
+        Mono<String> fileMono = applicationPageService
+                .createApplication(testApplication, workspaceId)
+                .flatMap(application ->
+                        exportService.getArtifactFile(application.getId(), null, ArtifactType.APPLICATION, false))
+                .flatMap(exportFileDTO -> DataBufferUtils.join(exportFileDTO.getArtifactResource()))
+                .map(dataBuffer -> {
+                    String file = dataBuffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(dataBuffer);
+                    return file;
+                });
+
+        StepVerifier.create(fileMono)
+                .assertNext(file -> {
+                    assertThat(file).contains("\"Export <raw> a=b & 'c'\"");
+                    assertThat(file).doesNotContain("\\u003c", "\\u003d", "\\u0026", "\\u0027");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void createExportAppJsonWithDatasourceButWithoutActionsTest() {
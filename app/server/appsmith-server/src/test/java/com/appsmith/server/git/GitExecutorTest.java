@@ -14,6 +14,8 @@ import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.NoHeadException;
 import org.eclipse.jgit.api.errors.RefNotFoundException;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.util.FS;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -480,6 +482,25 @@ public class GitExecutorTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void getStatus_WhenPolledRepeatedly_ReusesTheCachedRepositoryAndSeesNewChanges() throws IOException {
+        createFileInThePath("testFile");
+        commitToRepo();
+
+        GitStatusDTO cleanStatus = gitExecutor.getStatus(path, "master").block();
+        assertThat(cleanStatus.getIsClean()).isTrue();
+        assertThat(RepositoryCache.getRegisteredKeys())
+                .contains(RepositoryCache.FileKey.lenient(path.toFile(), FS.DETECTED));
+
+        createFileInThePath("testFile2");
+        GitStatusDTO dirtyStatus = gitExecutor.getStatus(path, "master").block();
+        assertThat(dirtyStatus.getIsClean()).isFalse();
+
+        commitToRepo();
+        List<GitLogDTO> commits = gitExecutor.getCommitHistory(path).block();
+        assertThat(commits).hasSize(2);
+    }
+
     @Test
     public void getStatus_noChangesInBranch_Success() throws IOException {
         createFileInThePath("testFile");
@@ -0,0 +1,74 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBufferStreamUtilsTest {
+
+    @Test
+    public void outputStreamPublisher_WhenWriterWritesMoreThanAChunk_PublishesItInChunks() {
+        Flux<DataBuffer> publisher = DataBufferStreamUtils.outputStreamPublisher(
+                outputStream -> outputStream.write("0123456789".getBytes(StandardCharsets.UTF_8)),
+                DefaultDataBufferFactory.sharedInstance,
+                4);
+
+        StepVerifier.create(publisher.map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8)))
+                .expectNext("0123", "4567", "89")
+                .verifyComplete();
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenThereIsNoDemand_WriterIsPaused() {
+        AtomicInteger writtenBytes = new AtomicInteger();
+        Flux<DataBuffer> publisher = DataBufferStreamUtils.outputStreamPublisher(
+                outputStream -> {
+                    for (int i = 0; i < 100; i++) {
+                        outputStream.write('a');
+                        writtenBytes.incrementAndGet();
+                    }
+                },
+                DefaultDataBufferFactory.sharedInstance,
+                10);
+
+        StepVerifier.create(publisher.doOnNext(DataBufferUtils::release), 1)
+                .expectNextCount(1)
+                .expectNoEvent(Duration.ofMillis(200))
+                .then(() -> assertThat(writtenBytes.get()).isLessThanOrEqualTo(20))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    public void outputStreamPublisher_WhenWriterFails_PublishesTheError() {
+        Flux<DataBuffer> publisher = DataBufferStreamUtils.outputStreamPublisher(
+                outputStream -> {
+                    throw new IllegalStateException("failed");
+                },
+                DefaultDataBufferFactory.sharedInstance,
+                10);
+
+        StepVerifier.create(publisher)
+                .expectErrorMessage("failed")
+                .verify();
+    }
+
+    @Test
+    public void isGzipAccepted_HonoursTheQualityOfGzip() {
+        assertThat(DataBufferStreamUtils.isGzipAccepted("gzip, deflate, br")).isTrue();
+        assertThat(DataBufferStreamUtils.isGzipAccepted("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(DataBufferStreamUtils.isGzipAccepted("gzip;q=0")).isFalse();
+        assertThat(DataBufferStreamUtils.isGzipAccepted("deflate, gzip ; q=0.000")).isFalse();
+        assertThat(DataBufferStreamUtils.isGzipAccepted("x-gzip-like")).isFalse();
+        assertThat(DataBufferStreamUtils.isGzipAccepted(null)).isFalse();
+    }
+}
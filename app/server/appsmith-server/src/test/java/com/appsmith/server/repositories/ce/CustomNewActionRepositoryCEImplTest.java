@@ -3,8 +3,10 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.solutions.ActionPermission;
 import org.bson.types.ObjectId;
@@ -18,7 +20,10 @@ import reactor.util.function.Tuple2;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -110,6 +115,91 @@ public class CustomNewActionRepositoryCEImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void updatePolicies_WhenApplicationIdMatches_PermissionGroupsAddedAndRemovedInBatches() {
+        String applicationId = UUID.randomUUID().toString();
+        String readPermission = actionPermission.getReadPermission().getValue();
+        String executePermission = actionPermission.getExecutePermission().getValue();
+        List<NewAction> actionList = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            NewAction action = createAction(applicationId, PluginType.API);
+            action.setPolicies(new HashSet<>(Set.of(createPolicy(readPermission, "existing"))));
+            actionList.add(action);
+        }
+        // action from another application, which must not be updated
+        actionList.add(createAction(UUID.randomUUID().toString(), PluginType.API));
+
+        Map<String, Policy> policyMap = Map.of(
+                readPermission, createPolicy(readPermission, "viewer"),
+                executePermission, createPolicy(executePermission, "viewer"));
+
+        Mono<List<Integer>> addedBatchesMono = newActionRepository
+                .saveAll(actionList)
+                .thenMany(newActionRepository
+                        .queryBuilder()
+                        .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                        .updatePolicies(policyMap, true, 2))
+                .collectList();
+
+        StepVerifier.create(addedBatchesMono)
+                .assertNext(batches -> assertThat(batches).containsExactly(2, 2, 1))
+                .verifyComplete();
+
+        StepVerifier.create(newActionRepository.findByApplicationId(applicationId))
+                .thenConsumeWhile(action -> {
+                    assertThat(action.getPolicies())
+                            .containsExactlyInAnyOrder(
+                                    createPolicy(readPermission, "existing", "viewer"),
+                                    createPolicy(executePermission, "viewer"));
+                    return true;
+                })
+                .verifyComplete();
+
+        Flux<NewAction> removedFlux = newActionRepository
+                .queryBuilder()
+                .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                .updatePolicies(policyMap, false, 2)
+                .thenMany(newActionRepository.findByApplicationId(applicationId));
+
+        StepVerifier.create(removedFlux.collectList())
+                .assertNext(actions -> {
+                    assertThat(actions).hasSize(5);
+                    actions.forEach(action -> assertThat(action.getPolicies())
+                            .containsExactlyInAnyOrder(
+                                    createPolicy(readPermission, "existing"), createPolicy(executePermission)));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void setUserPermissionsInObject_WhenAnyPermissionGroupMatches_PermissionIsSet() {
+        String readPermission = actionPermission.getReadPermission().getValue();
+        String executePermission = actionPermission.getExecutePermission().getValue();
+        String editPermission = actionPermission.getEditPermission().getValue();
+        NewAction action = createAction(UUID.randomUUID().toString(), PluginType.API);
+        action.setPolicies(Set.of(
+                createPolicy(readPermission, "group1", "group2", "group3", "group4"),
+                createPolicy(executePermission, "group4"),
+                createPolicy(editPermission, "group5")));
+
+        StepVerifier.create(newActionRepository.setUserPermissionsInObject(action, Set.of("group4", "group6")))
+                .assertNext(updatedAction -> assertThat(updatedAction.getUserPermissions())
+                        .containsExactlyInAnyOrder(readPermission, executePermission))
+                .verifyComplete();
+
+        StepVerifier.create(newActionRepository.setUserPermissionsInObject(action, Set.of()))
+                .assertNext(updatedAction -> assertThat(updatedAction.getUserPermissions()).isEmpty())
+                .verifyComplete();
+    }
+
+    private Policy createPolicy(String permission, String... permissionGroups) {
+        return Policy.builder()
+                .permission(permission)
+                .permissionGroups(new HashSet<>(Set.of(permissionGroups)))
+                .build();
+    }
+
     private NewAction createAction(String applicationId, PluginType pluginType) {
         NewAction action = new NewAction();
         action.setApplicationId(applicationId);
@@ -242,6 +332,36 @@ public class CustomNewActionRepositoryCEImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void publishActions_WhenPublishedAgain_OnlyChangedActionsArePublished() {
+        String applicationId = UUID.randomUUID().toString();
+        List<NewAction> actionList = List.of(
+                createUnpublishedAction(applicationId, PluginType.API),
+                createUnpublishedAction(applicationId, PluginType.DB));
+
+        Mono<List<Integer>> publishedCountsMono = newActionRepository
+                .saveAll(actionList)
+                .collectList()
+                .flatMap(savedActions -> newActionRepository
+                        .publishActions(applicationId, null)
+                        .flatMap(firstCount -> newActionRepository
+                                .publishActions(applicationId, null)
+                                .map(secondCount -> List.of(firstCount, secondCount))))
+                .flatMap(counts -> newActionRepository
+                        .findByApplicationId(applicationId)
+                        .next()
+                        .flatMap(action -> {
+                            action.getUnpublishedAction().setName("changedAction");
+                            return newActionRepository.save(action);
+                        })
+                        .then(newActionRepository.publishActions(applicationId, null))
+                        .map(thirdCount -> List.of(counts.get(0), counts.get(1), thirdCount)));
+
+        StepVerifier.create(publishedCountsMono)
+                .assertNext(counts -> assertThat(counts).containsExactly(2, 0, 1))
+                .verifyComplete();
+    }
+
     @Test
     public void archiveDeletedUnpublishedActions_WhenApplicationIdMatchesAndDeletedFromEditMode_ActionDeleted() {
         // create actions with different application ids
@@ -19,6 +19,7 @@ import com.appsmith.server.dtos.ActionCollectionViewDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIViewResponseDTO;
 import com.appsmith.server.dtos.MockDataDTO;
 import com.appsmith.server.dtos.MockDataSet;
 import com.appsmith.server.dtos.PageDTO;
@@ -47,6 +48,8 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import static com.appsmith.external.constants.PluginConstants.PackageName.APPSMITH_AI_PLUGIN;
 import static com.appsmith.external.constants.PluginConstants.PackageName.GRAPHQL_PLUGIN;
@@ -59,6 +62,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -119,6 +124,9 @@ public class ConsolidatedAPIServiceImplTest {
     @SpyBean
     NewPageRepository mockNewPageRepository;
 
+    @SpyBean
+    PermissionGroupService spyPermissionGroupService;
+
     @Test
     public void testErrorWhenModeIsNullAndPageIdAvailable() {
         Mono<ConsolidatedAPIResponseDTO> consolidatedInfoForPageLoad =
@@ -845,4 +853,121 @@ public class ConsolidatedAPIServiceImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testViewModePageLoadResponseIsServedFromCachedBundle() {
+        User sampleUser = new User();
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+
+        UserProfileDTO sampleUserProfileDTO = new UserProfileDTO();
+        sampleUserProfileDTO.setName("sampleUserProfileDTO");
+        when(mockUserService.buildUserProfileDTO(any())).thenReturn(Mono.just(sampleUserProfileDTO));
+
+        when(mockUserDataService.getFeatureFlagsForCurrentUser())
+                .thenReturn(Mono.just(Map.of("sampleFeatureFlag", true)));
+
+        Tenant sampleTenant = new Tenant();
+        sampleTenant.setDisplayName("sampleTenant");
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(sampleTenant));
+
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+
+        doReturn(Mono.just(Set.of("samplePermissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+
+        // A fresh application id, so that no bundle is left over from an earlier run
+        Application sampleApplication = new Application();
+        sampleApplication.setId(UUID.randomUUID().toString());
+        sampleApplication.setUpdatedAt(Instant.now());
+        doReturn(Mono.just(sampleApplication))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+
+        doReturn(Mono.just(List.of(new NewPage())))
+                .when(spyApplicationPageService)
+                .getPagesBasedOnApplicationMode(any(), any());
+
+        ApplicationPagesDTO sampleApplicationPagesDTO = new ApplicationPagesDTO();
+        sampleApplicationPagesDTO.setWorkspaceId("sampleWorkspaceId");
+        doReturn(Mono.just(sampleApplicationPagesDTO))
+                .when(spyNewPageService)
+                .createApplicationPagesDTO(any(), any(), anyBoolean(), anyBoolean());
+
+        Theme sampleTheme = new Theme();
+        sampleTheme.setName("sampleTheme");
+        doReturn(Mono.just(sampleTheme)).when(spyThemeService).getApplicationTheme(anyString(), any(), anyString());
+        doReturn(Flux.just(sampleTheme)).when(spyThemeService).getApplicationThemes(anyString(), anyString());
+
+        doReturn(Mono.just(List.of()))
+                .when(spyCustomJSLibService)
+                .getAllJSLibsInContext(anyString(), any(), anyString(), anyBoolean());
+
+        PageDTO samplePageDTO = new PageDTO();
+        samplePageDTO.setName("samplePageDTO");
+        doReturn(Mono.just(samplePageDTO))
+                .when(spyApplicationPageService)
+                .getPageAndMigrateDslByBranchAndDefaultPageId(anyString(), anyString(), anyBoolean(), anyBoolean());
+
+        ActionViewDTO sampleActionViewDTO = new ActionViewDTO();
+        sampleActionViewDTO.setName("sampleActionViewDTO");
+        doReturn(Flux.just(sampleActionViewDTO))
+                .when(spyNewActionService)
+                .getActionsForViewMode(anyString(), anyString());
+
+        doReturn(Flux.empty())
+                .when(spyActionCollectionService)
+                .getActionCollectionsForViewMode(anyString(), anyString());
+
+        ConsolidatedAPIViewResponseDTO firstResponse = consolidatedAPIService
+                .getConsolidatedInfoForViewModePageLoad("pageId", "appId", "branch")
+                .block();
+        ConsolidatedAPIViewResponseDTO secondResponse = consolidatedAPIService
+                .getConsolidatedInfoForViewModePageLoad("pageId", "appId", "branch")
+                .block();
+
+        assertNotNull(firstResponse);
+        assertNotNull(secondResponse);
+        assertThat(secondResponse.eTag()).isEqualTo(firstResponse.eTag());
+        assertThat(secondResponse.data()).isEqualTo(firstResponse.data());
+        assertEquals(
+                "sampleActionViewDTO",
+                secondResponse
+                        .data()
+                        .at("/publishedActions/data/0/name")
+                        .asText());
+        assertEquals(
+                "sampleUserProfileDTO",
+                secondResponse.data().at("/userProfile/data/name").asText());
+        verify(spyNewActionService, times(1)).getActionsForViewMode(anyString(), anyString());
+
+        // User specific data is fetched on every request, and is part of the entity tag
+        sampleUserProfileDTO.setName("renamedUserProfileDTO");
+        ConsolidatedAPIViewResponseDTO thirdResponse = consolidatedAPIService
+                .getConsolidatedInfoForViewModePageLoad("pageId", "appId", "branch")
+                .block();
+
+        assertNotNull(thirdResponse);
+        assertThat(thirdResponse.eTag()).isNotEqualTo(firstResponse.eTag());
+        assertEquals(
+                "renamedUserProfileDTO",
+                thirdResponse.data().at("/userProfile/data/name").asText());
+        verify(spyNewActionService, times(1)).getActionsForViewMode(anyString(), anyString());
+
+        // Feature flags can change how the pages are migrated, hence a change in them is not served the cached bundle
+        when(mockUserDataService.getFeatureFlagsForCurrentUser())
+                .thenReturn(Mono.just(Map.of("sampleFeatureFlag", false)));
+        ConsolidatedAPIViewResponseDTO fourthResponse = consolidatedAPIService
+                .getConsolidatedInfoForViewModePageLoad("pageId", "appId", "branch")
+                .block();
+
+        assertNotNull(fourthResponse);
+        assertEquals(
+                "sampleActionViewDTO",
+                fourthResponse
+                        .data()
+                        .at("/publishedActions/data/0/name")
+                        .asText());
+        verify(spyNewActionService, times(2)).getActionsForViewMode(anyString(), anyString());
+    }
 }
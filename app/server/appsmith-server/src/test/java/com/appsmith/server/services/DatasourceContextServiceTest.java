@@ -47,15 +47,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -64,7 +70,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Slf4j
@@ -767,4 +775,116 @@ public class DatasourceContextServiceTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    /**
+     * This test checks that once more datasource contexts are cached than the configured maximum, the least recently
+     * used context is evicted and its connection destroyed.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceContextsOverCapacity_leastRecentlyUsedContextIsDestroyed() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        ReflectionTestUtils.setField(datasourceContextService, "maxDatasourceContextCount", 1);
+
+        Plugin emptyPlugin = new Plugin();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1"))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage firstStorage = new DatasourceStorage();
+        firstStorage.setEnvironmentId(defaultEnvironmentId);
+        firstStorage.setDatasourceId("capacity_datasource_1");
+        firstStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier firstIdentifier =
+                new DatasourceContextIdentifier(firstStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceStorage secondStorage = new DatasourceStorage();
+        secondStorage.setEnvironmentId(defaultEnvironmentId);
+        secondStorage.setDatasourceId("capacity_datasource_2");
+        secondStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier secondIdentifier =
+                new DatasourceContextIdentifier(secondStorage.getDatasourceId(), defaultEnvironmentId);
+
+        try {
+            Mono<DatasourceContext<Object>> bothContextsMono = datasourceContextService
+                    .getCachedDatasourceContextMono(
+                            firstStorage, emptyPlugin, spyMockPluginExecutor, new Object(), firstIdentifier)
+                    .then(datasourceContextService.getCachedDatasourceContextMono(
+                            secondStorage, emptyPlugin, spyMockPluginExecutor, new Object(), secondIdentifier));
+
+            StepVerifier.create(bothContextsMono)
+                    .assertNext(datasourceContext -> assertEquals("connection_2", datasourceContext.getConnection()))
+                    .verifyComplete();
+
+            verify(spyMockPluginExecutor).datasourceDestroy("connection_1");
+            assertFalse(datasourceContextService.isValidDatasourceContextAvailable(firstStorage, firstIdentifier));
+            assertTrue(datasourceContextService.isValidDatasourceContextAvailable(secondStorage, secondIdentifier));
+        } finally {
+            ReflectionTestUtils.setField(datasourceContextService, "maxDatasourceContextCount", 1000);
+        }
+    }
+
+    /**
+     * This test checks that a context whose connection is still being created is not evicted for capacity, as its
+     * connection would then be set on a context that is no longer cached and never be destroyed.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceContextsOverCapacity_contextWithPendingConnectionIsNotEvicted() {
+        doReturn(false).when(datasourceContextService).getIsStale(any(), any());
+        ReflectionTestUtils.setField(datasourceContextService, "maxDatasourceContextCount", 1);
+
+        Plugin emptyPlugin = new Plugin();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        Sinks.One<Object> pendingConnection = Sinks.one();
+        doReturn(pendingConnection.asMono())
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage firstStorage = new DatasourceStorage();
+        firstStorage.setEnvironmentId(defaultEnvironmentId);
+        firstStorage.setDatasourceId("pending_datasource_1");
+        firstStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier firstIdentifier =
+                new DatasourceContextIdentifier(firstStorage.getDatasourceId(), defaultEnvironmentId);
+
+        DatasourceStorage secondStorage = new DatasourceStorage();
+        secondStorage.setEnvironmentId(defaultEnvironmentId);
+        secondStorage.setDatasourceId("pending_datasource_2");
+        secondStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContextIdentifier secondIdentifier =
+                new DatasourceContextIdentifier(secondStorage.getDatasourceId(), defaultEnvironmentId);
+
+        Map<?, ?> datasourceContextMap =
+                (Map<?, ?>) ReflectionTestUtils.getField(datasourceContextService, "datasourceContextMap");
+        Map<?, ?> datasourceContextMonoMap =
+                (Map<?, ?>) ReflectionTestUtils.getField(datasourceContextService, "datasourceContextMonoMap");
+
+        Disposable firstSubscription = datasourceContextService
+                .getCachedDatasourceContextMono(
+                        firstStorage, emptyPlugin, spyMockPluginExecutor, new Object(), firstIdentifier)
+                .subscribe();
+        try {
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> datasourceContextMonoMap.containsKey(firstIdentifier));
+
+            StepVerifier.create(datasourceContextService.getCachedDatasourceContextMono(
+                            secondStorage, emptyPlugin, spyMockPluginExecutor, new Object(), secondIdentifier))
+                    .assertNext(datasourceContext -> assertEquals("connection_2", datasourceContext.getConnection()))
+                    .verifyComplete();
+
+            verify(spyMockPluginExecutor, never()).datasourceDestroy(any());
+            assertTrue(datasourceContextMap.containsKey(firstIdentifier));
+
+            // Once created, the connection is set on the context that is still cached
+            pendingConnection.tryEmitValue("connection_1");
+            assertTrue(datasourceContextService.isValidDatasourceContextAvailable(firstStorage, firstIdentifier));
+        } finally {
+            firstSubscription.dispose();
+            ReflectionTestUtils.setField(datasourceContextService, "maxDatasourceContextCount", 1000);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.helpers.AstReferencesCache;
+import com.appsmith.server.testhelpers.rts.LocalRtsServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AstServiceCEImplTest {
+
+    private LocalRtsServer localRtsServer;
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        localRtsServer = new LocalRtsServer();
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        AstReferencesCache astReferencesCache = new AstReferencesCache(null, new ObjectMapper(), 100, false);
+        astService = new AstServiceCEImpl(
+                commonConfig, instanceConfig, localRtsServer.createRtsCaller(), astReferencesCache);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        localRtsServer.close();
+    }
+
+    @Test
+    void getPossibleReferencesFromDynamicBinding_unchangedBindings_areNotSentToRtsAgain() {
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Api1.data", "Input1.text"), 2)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .assertNext(references -> assertThat(references)
+                        .isEqualTo(Map.of("Api1.data", Set.of("Api1.data"), "Input1.text", Set.of("Input1.text"))))
+                .verifyComplete();
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Api1.data", "Input1.text + Api2.data"), 2)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .assertNext(references -> assertThat(references)
+                        .isEqualTo(Map.of(
+                                "Api1.data",
+                                Set.of("Api1.data"),
+                                "Input1.text + Api2.data",
+                                Set.of("Input1.text", "Api2.data"))))
+                .verifyComplete();
+
+        assertThat(localRtsServer.getRequestCount(LocalRtsServer.MULTIPLE_SCRIPT_DATA_PATH)).isEqualTo(2);
+        assertThat(localRtsServer.getLastRequestBody(LocalRtsServer.MULTIPLE_SCRIPT_DATA_PATH).get("scripts").size())
+                .isEqualTo(1);
+
+        StepVerifier.create(astService.getPossibleReferencesFromDynamicBinding(List.of("Api1.data"), 2))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(localRtsServer.getRequestCount(LocalRtsServer.MULTIPLE_SCRIPT_DATA_PATH)).isEqualTo(2);
+    }
+
+    @Test
+    void refactorNameInDynamicBindings_manyBindings_usesChunkedBulkCalls() {
+        Set<MustacheBindingToken> bindings = new HashSet<>();
+        for (int i = 0; i < 450; i++) {
+            bindings.add(new MustacheBindingToken("Api1.data[" + i + "]", i, false));
+        }
+        MustacheBindingToken unrelated = new MustacheBindingToken("Api2.data", 1000, false);
+        MustacheBindingToken unparsable = new MustacheBindingToken("Api1.data++++", 1001, false);
+        bindings.add(unrelated);
+        bindings.add(unparsable);
+
+        StepVerifier.create(astService.refactorNameInDynamicBindings(bindings, "Api1", "Api3", 2, false))
+                .assertNext(refactored -> {
+                    assertThat(refactored).hasSize(450);
+                    assertThat(refactored).doesNotContainKeys(unrelated, unparsable);
+                    assertThat(refactored.get(new MustacheBindingToken("Api1.data[7]", 7, false)))
+                            .isEqualTo("Api3.data[7]");
+                })
+                .verifyComplete();
+
+        assertThat(localRtsServer.getRequestCount(LocalRtsServer.MULTIPLE_ENTITY_REFACTOR_PATH)).isEqualTo(3);
+        assertThat(localRtsServer.getRequestCount(LocalRtsServer.ENTITY_REFACTOR_PATH)).isZero();
+    }
+
+    @Test
+    void refactorNameInDynamicBindings_bulkEndpointUnavailable_fallsBackToSingleCalls() {
+        localRtsServer.setBulkRefactorEnabled(false);
+        MustacheBindingToken binding = new MustacheBindingToken("Api1.data", 0, false);
+        MustacheBindingToken unparsable = new MustacheBindingToken("Api1.data++++", 20, false);
+
+        StepVerifier.create(astService.refactorNameInDynamicBindings(
+                        Set.of(binding, unparsable), "Api1", "Api3", 2, false))
+                .assertNext(refactored -> assertThat(refactored).isEqualTo(Map.of(binding, "Api3.data")))
+                .verifyComplete();
+
+        assertThat(localRtsServer.getRequestCount(LocalRtsServer.ENTITY_REFACTOR_PATH)).isEqualTo(2);
+    }
+}
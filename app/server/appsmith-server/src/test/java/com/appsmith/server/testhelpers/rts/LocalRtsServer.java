@@ -0,0 +1,155 @@
+package com.appsmith.server.testhelpers.rts;
+
+import com.appsmith.server.helpers.RTSCaller;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A stand-in for the RTS AST endpoints, for tests that exercise the server's calls to RTS without a Node process.
+ *
+ * Identifier extraction is approximated by reporting every dotted identifier path in a script as a reference, and
+ * entity refactoring by replacing whole word occurrences of the old name. Scripts that contain `++++` are treated as
+ * having a syntax error. The bulk refactor endpoint can be switched off to mimic an older RTS.
+ */
+public class LocalRtsServer implements AutoCloseable {
+
+    public static final String MULTIPLE_SCRIPT_DATA_PATH = "/rts-api/v1/ast/multiple-script-data";
+
+    public static final String ENTITY_REFACTOR_PATH = "/rts-api/v1/ast/entity-refactor";
+
+    public static final String MULTIPLE_ENTITY_REFACTOR_PATH = "/rts-api/v1/ast/multiple-entity-refactor";
+
+    private static final String SYNTAX_ERROR_MARKER = "++++";
+
+    private static final Pattern IDENTIFIER_PATH_PATTERN =
+            Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*(\\.[A-Za-z_$][A-Za-z0-9_$]*)*");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    private final Map<String, JsonNode> lastRequestBodies = new ConcurrentHashMap<>();
+
+    private volatile boolean bulkRefactorEnabled = true;
+
+    public LocalRtsServer() throws IOException {
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requestCounts.computeIfAbsent(request.getPath(), path -> new AtomicInteger()).incrementAndGet();
+                try {
+                    return LocalRtsServer.this.dispatch(request);
+                } catch (IOException e) {
+                    return new MockResponse().setResponseCode(500);
+                }
+            }
+        });
+        mockWebServer.start();
+    }
+
+    /**
+     * Creates an {@link RTSCaller} that sends its requests to this server.
+     */
+    public RTSCaller createRtsCaller() {
+        RTSCaller rtsCaller = new RTSCaller();
+        ReflectionTestUtils.setField(rtsCaller, "rtsPort", String.valueOf(mockWebServer.getPort()));
+        ReflectionTestUtils.invokeMethod(rtsCaller, "makeWebClient");
+        return rtsCaller;
+    }
+
+    public void setBulkRefactorEnabled(boolean bulkRefactorEnabled) {
+        this.bulkRefactorEnabled = bulkRefactorEnabled;
+    }
+
+    public int getRequestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Returns the body of the latest request made to the path, or null if there has been none.
+     */
+    public JsonNode getLastRequestBody(String path) {
+        return lastRequestBodies.get(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    private MockResponse dispatch(RecordedRequest request) throws IOException {
+        String path = request.getPath();
+        JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+        lastRequestBodies.put(path, body);
+
+        if (MULTIPLE_SCRIPT_DATA_PATH.equals(path)) {
+            ArrayNode data = objectMapper.createArrayNode();
+            for (JsonNode script : body.get("scripts")) {
+                ArrayNode references = data.addObject().putArray("references");
+                Matcher matcher = IDENTIFIER_PATH_PATTERN.matcher(script.asText());
+                while (matcher.find()) {
+                    references.add(matcher.group());
+                }
+            }
+            return jsonResponse(objectMapper.createObjectNode().put("success", true).set("data", data));
+        } else if (ENTITY_REFACTOR_PATH.equals(path)) {
+            ObjectNode result = refactor(body.get("script").asText(), body);
+            boolean success = result.remove("success").asBoolean();
+            return jsonResponse(objectMapper.createObjectNode().put("success", success).set("data", result));
+        } else if (MULTIPLE_ENTITY_REFACTOR_PATH.equals(path) && bulkRefactorEnabled) {
+            ArrayNode data = objectMapper.createArrayNode();
+            for (JsonNode script : body.get("scripts")) {
+                data.add(refactor(script.asText(), body));
+            }
+            return jsonResponse(objectMapper.createObjectNode().put("success", true).set("data", data));
+        }
+
+        return new MockResponse().setResponseCode(404);
+    }
+
+    private ObjectNode refactor(String script, JsonNode request) {
+        ObjectNode result = objectMapper.createObjectNode();
+        if (script.contains(SYNTAX_ERROR_MARKER)) {
+            return result.put("success", false).put("error", "Syntax Error");
+        }
+
+        Matcher matcher = Pattern.compile("\\b" + Pattern.quote(request.get("oldName").asText()) + "\\b")
+                .matcher(script);
+        int refactorCount = 0;
+        StringBuilder refactoredScript = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(refactoredScript, Matcher.quoteReplacement(request.get("newName").asText()));
+            refactorCount++;
+        }
+        matcher.appendTail(refactoredScript);
+
+        return result.put("success", true)
+                .put("script", refactoredScript.toString())
+                .put("referenceCount", refactorCount)
+                .put("refactorCount", refactorCount);
+    }
+
+    private MockResponse jsonResponse(JsonNode body) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "application/json")
+                .setBody(body.toString());
+    }
+}
@@ -1,116 +1,346 @@
 package com.appsmith.caching.components;
 
-import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
- * Used Redis as the cache backend.
+ * Used Redis as the cache backend, fronted by a small in-process near cache.
+ *
+ * The near cache is bounded both in size and in the time an entry may be served from it. It holds values in their
+ * serialized form, so every hit hands out a fresh copy, the same way a read from Redis does. Evictions are applied
+ * locally right away, and once more after the entry was deleted from Redis, since a read that started in between may
+ * still have found it there. They are published over Redis pub/sub, so that the other replicas drop the entry from
+ * their near caches too. Should a replica miss such a message, the TTL bounds how long it keeps serving the stale
+ * value.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    private static final String EVICTION_CHANNEL = "appsmith-cache-evictions";
+
+    private static final String EVICT_KEY = "key";
+
+    private static final String EVICT_ALL = "all";
+
+    private static final int EVICT_ALL_SCAN_BATCH_SIZE = 1000;
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
 
-    Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
+    private final RedisSerializationContext.SerializationPair<Object> valueSerializationPair;
 
-    /**
-     * Ensures that the key for cacheName is present in statsMap.
-     * @param cacheName The name of the cache.
-     */
-    private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
-    }
+    private final MeterRegistry meterRegistry;
 
-    @Override
-    public void logStats() {
-        statsMap.keySet().forEach(key -> {
-            CacheStats stats = statsMap.get(key);
-            log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
-                    key,
-                    stats.getHits(),
-                    stats.getMisses(),
-                    stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
-        });
-    }
+    private final int nearCacheMaxEntries;
+
+    private final long nearCacheTtlMillis;
+
+    // Identifies the eviction messages published by this replica, which have already been applied locally.
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, NearCacheEntry> nearCache;
 
     /**
-     * Resets the stats.
+     * Incremented on every eviction. A value read from Redis is only added to the near cache when no eviction happened
+     * while it was being read, so that a read racing with an eviction cannot put the evicted value back.
      */
-    public void resetStats() {
-        statsMap.clear();
-    }
+    private final AtomicLong evictionGeneration = new AtomicLong();
+
+    private final Map<String, CacheMeters> metersByCacheName = new ConcurrentHashMap<>();
+
+    private Disposable evictionSubscription;
 
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            MeterRegistry meterRegistry,
+            @Value("${appsmith.cache.near-cache.max-entries:10000}") int nearCacheMaxEntries,
+            @Value("${appsmith.cache.near-cache.ttl-seconds:60}") long nearCacheTtlSeconds) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.valueSerializationPair = reactiveRedisTemplate.getSerializationContext().getValueSerializationPair();
+        this.meterRegistry = meterRegistry;
+        this.nearCacheMaxEntries = nearCacheMaxEntries;
+        this.nearCacheTtlMillis = Duration.ofSeconds(nearCacheTtlSeconds).toMillis();
+        this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NearCacheEntry> eldest) {
+                return size() > nearCacheMaxEntries;
+            }
+        });
+    }
+
+    @PostConstruct
+    public void subscribeToEvictions() {
+        if (!isNearCacheEnabled()) {
+            return;
+        }
+
+        evictionSubscription = reactiveRedisOperations
+                .listenToChannel(EVICTION_CHANNEL)
+                .doOnSubscribe(subscription -> {
+                    // Evictions published while this replica was not subscribed are lost, start from a clean slate.
+                    evictionGeneration.incrementAndGet();
+                    nearCache.clear();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> applyEvictionMessage(message.getMessage()));
+    }
+
+    @PreDestroy
+    public void unsubscribeFromEvictions() {
+        if (evictionSubscription != null) {
+            evictionSubscription.dispose();
+        }
+    }
+
+    @Override
+    public void logStats() {
+        metersByCacheName.forEach((cacheName, meters) -> log.debug(
+                "Cache {} stats: nearHits = {}, hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                cacheName,
+                (long) meters.nearHits.count(),
+                (long) meters.hits.count(),
+                (long) meters.misses.count(),
+                (long) meters.singleEvictions.count(),
+                (long) meters.completeEvictions.count()));
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
-        ensureStats(cacheName);
+        final CacheMeters meters = getMeters(cacheName);
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
-                    // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
-                    return value;
-                })
-                .switchIfEmpty(Mono.defer(() -> {
-                    // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
-                    return Mono.empty();
-                }));
+
+        final Object nearCacheValue = getFromNearCache(path);
+        if (nearCacheValue != null) {
+            meters.nearHits.increment();
+            return Mono.just(nearCacheValue);
+        }
+
+        final long generation = evictionGeneration.get();
+        return timed(
+                meters.getLatency,
+                () -> reactiveRedisTemplate
+                        .opsForValue()
+                        .get(path)
+                        .map(value -> {
+                            // This is a cache hit, update stats and return value
+                            meters.hits.increment();
+                            putInNearCache(path, value, generation);
+                            return value;
+                        })
+                        .switchIfEmpty(Mono.defer(() -> {
+                            // This is a cache miss, update stats and return empty
+                            meters.misses.increment();
+                            log.debug("Cache miss for key {}", path);
+                            return Mono.empty();
+                        })));
     }
 
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
-        ensureStats(cacheName);
+        final CacheMeters meters = getMeters(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        final long generation = evictionGeneration.get();
+        // Other replicas may still hold the value this one replaces, so the put is published like an eviction.
+        return timed(meters.putLatency, () -> reactiveRedisTemplate
+                .opsForValue()
+                .set(path, value)
+                .flatMap(isSet -> {
+                    if (Boolean.TRUE.equals(isSet)) {
+                        putInNearCache(path, value, generation);
+                    }
+                    return publishEviction(EVICT_KEY, cacheName, key).thenReturn(isSet);
+                }));
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
-        ensureStats(cacheName);
-        statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
+        final CacheMeters meters = getMeters(cacheName);
+        meters.singleEvictions.increment();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        evictFromNearCache(path);
+        return timed(
+                meters.evictLatency,
+                () -> reactiveRedisTemplate
+                        .delete(path)
+                        .then(Mono.fromRunnable(() -> evictFromNearCache(path)))
+                        .then(publishEviction(EVICT_KEY, cacheName, key)));
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
-        ensureStats(cacheName);
-        statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        final CacheMeters meters = getMeters(cacheName);
+        meters.completeEvictions.increment();
+        evictAllFromNearCache(cacheName);
+        // SCAN walks the keyspace in small steps, unlike KEYS which blocks Redis until it has matched every key.
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(EVICT_ALL_SCAN_BATCH_SIZE)
+                .build();
+        return timed(
+                meters.evictAllLatency,
+                () -> reactiveRedisTemplate
+                        .scan(scanOptions)
+                        .buffer(EVICT_ALL_SCAN_BATCH_SIZE)
+                        .concatMap(keys -> reactiveRedisTemplate.delete(keys.toArray(new String[0])))
+                        .then(Mono.fromRunnable(() -> evictAllFromNearCache(cacheName)))
+                        .then(publishEviction(EVICT_ALL, cacheName, "")));
+    }
+
+    private boolean isNearCacheEnabled() {
+        return nearCacheMaxEntries > 0 && nearCacheTtlMillis > 0;
+    }
+
+    private Object getFromNearCache(String path) {
+        if (!isNearCacheEnabled()) {
+            return null;
+        }
+
+        final NearCacheEntry entry = nearCache.get(path);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            nearCache.remove(path, entry);
+            return null;
+        }
+
+        return valueSerializationPair.read(ByteBuffer.wrap(entry.value));
+    }
+
+    private void putInNearCache(String path, Object value, long generation) {
+        if (!isNearCacheEnabled()) {
+            return;
+        }
+
+        try {
+            final ByteBuffer buffer = valueSerializationPair.write(value);
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            final NearCacheEntry entry = new NearCacheEntry(bytes, System.currentTimeMillis() + nearCacheTtlMillis);
+            synchronized (nearCache) {
+                if (evictionGeneration.get() == generation) {
+                    nearCache.put(path, entry);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Not keeping {} in the near cache, it could not be serialized", path, e);
+        }
+    }
+
+    private void evictFromNearCache(String path) {
+        synchronized (nearCache) {
+            evictionGeneration.incrementAndGet();
+            nearCache.remove(path);
+        }
+    }
+
+    private void evictAllFromNearCache(String cacheName) {
+        final String prefix = cacheName + ":";
+        synchronized (nearCache) {
+            evictionGeneration.incrementAndGet();
+            nearCache.keySet().removeIf(path -> path.startsWith(prefix));
+        }
+    }
+
+    private Mono<Void> publishEviction(String type, String cacheName, String key) {
+        if (!isNearCacheEnabled()) {
+            return Mono.empty();
+        }
+
+        // The key goes last, as it is the only part that may contain the separator.
+        return reactiveRedisOperations
+                .convertAndSend(EVICTION_CHANNEL, String.join("\n", instanceId, type, cacheName, key))
+                .onErrorResume(error -> {
+                    log.warn("Failed to publish eviction of cache {}", cacheName, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void applyEvictionMessage(String message) {
+        final String[] parts = message.split("\n", 4);
+        if (parts.length != 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        if (EVICT_ALL.equals(parts[1])) {
+            evictAllFromNearCache(parts[2]);
+        } else if (EVICT_KEY.equals(parts[1])) {
+            evictFromNearCache(parts[2] + ":" + parts[3]);
+        }
+    }
+
+    private <T> Mono<T> timed(Timer timer, Supplier<Mono<T>> operation) {
+        return Mono.defer(() -> {
+            final long startNanos = System.nanoTime();
+            return operation
+                    .get()
+                    .doFinally(signalType -> timer.record(Duration.ofNanos(System.nanoTime() - startNanos)));
+        });
+    }
+
+    private CacheMeters getMeters(String cacheName) {
+        return metersByCacheName.computeIfAbsent(cacheName, name -> new CacheMeters(meterRegistry, name));
+    }
+
+    private record NearCacheEntry(byte[] value, long expiresAt) {}
+
+    private static class CacheMeters {
+        private final Counter nearHits;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter singleEvictions;
+        private final Counter completeEvictions;
+        private final Timer getLatency;
+        private final Timer putLatency;
+        private final Timer evictLatency;
+        private final Timer evictAllLatency;
+
+        private CacheMeters(MeterRegistry meterRegistry, String cacheName) {
+            nearHits = meterRegistry.counter("appsmith.cache.gets", "cache", cacheName, "result", "near_hit");
+            hits = meterRegistry.counter("appsmith.cache.gets", "cache", cacheName, "result", "hit");
+            misses = meterRegistry.counter("appsmith.cache.gets", "cache", cacheName, "result", "miss");
+            singleEvictions = meterRegistry.counter("appsmith.cache.evictions", "cache", cacheName, "type", "single");
+            completeEvictions = meterRegistry.counter("appsmith.cache.evictions", "cache", cacheName, "type", "all");
+            getLatency = meterRegistry.timer("appsmith.cache.redis.latency", "cache", cacheName, "operation", "get");
+            putLatency = meterRegistry.timer("appsmith.cache.redis.latency", "cache", cacheName, "operation", "put");
+            evictLatency =
+                    meterRegistry.timer("appsmith.cache.redis.latency", "cache", cacheName, "operation", "evict");
+            evictAllLatency =
+                    meterRegistry.timer("appsmith.cache.redis.latency", "cache", cacheName, "operation", "evict_all");
+        }
     }
 }
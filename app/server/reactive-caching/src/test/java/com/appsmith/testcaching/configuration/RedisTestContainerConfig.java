@@ -1,5 +1,7 @@
 package com.appsmith.testcaching.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -26,6 +28,11 @@ public class RedisTestContainerConfig {
     public static GenericContainer redisContainer =
             new GenericContainer(DockerImageName.parse("redis:6.2.6-alpine")).withExposedPorts(6379);
 
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
     @Bean
     @Primary
     public ReactiveRedisConnectionFactory reactiveRedisConnectionFactory() {
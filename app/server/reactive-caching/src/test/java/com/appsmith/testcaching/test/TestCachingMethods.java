@@ -1,21 +1,29 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +36,15 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -99,6 +116,52 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that an eviction also drops the entry from the near cache of another replica.
+     */
+    @Test
+    public void testEvictionReachesOtherReplica() throws InterruptedException {
+        RedisCacheManagerImpl otherReplica =
+                new RedisCacheManagerImpl(reactiveRedisTemplate, reactiveRedisOperations, meterRegistry, 100, 600);
+        otherReplica.subscribeToEvictions();
+        try {
+            // Give the subscription time to be registered with Redis before anything is published
+            Thread.sleep(500);
+
+            cacheManager.put("replicacache", "key1", "value1").block();
+            assertEquals("value1", otherReplica.get("replicacache", "key1").block());
+
+            cacheManager.evict("replicacache", "key1").block();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            Object value = otherReplica.get("replicacache", "key1").block();
+            while (value != null && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+                value = otherReplica.get("replicacache", "key1").block();
+            }
+            assertNull(value);
+        } finally {
+            otherReplica.unsubscribeFromEvictions();
+        }
+    }
+
+    /**
+     * This Test is used to test that the cache statistics are recorded in the application's meter registry.
+     */
+    @Test
+    public void testStatsAreRecordedInMeterRegistry() {
+        cacheManager.get("meteredcache", "key1").block();
+        cacheManager.put("meteredcache", "key1", "value1").block();
+        cacheManager.get("meteredcache", "key1").block();
+
+        Counter misses = meterRegistry
+                .find("appsmith.cache.gets")
+                .tags("cache", "meteredcache", "result", "miss")
+                .counter();
+        assertNotNull(misses);
+        assertEquals(1, (long) misses.count());
+    }
+
     /**
      * Test to measure performance of caching
      */